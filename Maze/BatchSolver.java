@@ -0,0 +1,113 @@
+package Maze;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+// BatchSolver (Banyak Query Start/End Paralel di Satu Maze)
+// Terrain (CompactGrid) hanya dibaca, jadi aman dibagi antar thread.
+// Workspace (parent/gCost/heap) dipinjam per task daun dari antrian milik
+// satu panggilan solveAll, lalu dikembalikan; jumlahnya <= task yang jalan
+// bersamaan dan semuanya lepas saat solveAll selesai (tidak menempel di
+// thread pool seperti ThreadLocal). Query dibagi rekursif di ForkJoinPool;
+// hasil disimpan per index sehingga urutan tetap sama.
+class BatchSolver {
+    private static final int SPLIT_THRESHOLD = 8; // Query per task daun
+
+    private final CompactGrid grid;
+    private final ForkJoinPool pool;
+
+    // Hasil batch: per-query (urutan sama dengan input) + throughput total
+    public static class BatchResult {
+        PathAlgorithms.GridResult[] results;
+        long wallNanos;
+        long totalExpanded;
+
+        public double queriesPerSecond() {
+            return results.length / (wallNanos / 1e9);
+        }
+
+        public double expansionsPerSecond() {
+            return totalExpanded / (wallNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d queries in %.1f ms | %.0f queries/s | %.0f expansions/s",
+                results.length, wallNanos / 1e6, queriesPerSecond(), expansionsPerSecond());
+        }
+    }
+
+    public BatchSolver(CompactGrid grid, ForkJoinPool pool) {
+        this.grid = grid;
+        this.pool = pool;
+    }
+
+    public BatchSolver(CompactGrid grid) {
+        this(grid, ForkJoinPool.commonPool());
+    }
+
+    // pairs.get(i) = {startIdx, endIdx} (index r*cols+c di CompactGrid)
+    public BatchResult solveAll(List<int[]> pairs, String algo) {
+        BatchResult batch = new BatchResult();
+        batch.results = new PathAlgorithms.GridResult[pairs.size()];
+
+        ConcurrentLinkedQueue<PathAlgorithms.Workspace> workspaces = new ConcurrentLinkedQueue<>();
+        long t0 = System.nanoTime();
+        pool.invoke(new SolveRange(pairs, algo, batch.results, workspaces, 0, pairs.size()));
+        batch.wallNanos = System.nanoTime() - t0;
+
+        for (PathAlgorithms.GridResult r : batch.results) batch.totalExpanded += r.expanded;
+        return batch;
+    }
+
+    private PathAlgorithms.GridResult solveOne(int start, int end, String algo, PathAlgorithms.Workspace ws) {
+        switch (algo) {
+            case "BFS": return PathAlgorithms.solveBFS(grid, start, end, false, ws);
+            case "DFS": return PathAlgorithms.solveDFS(grid, start, end, false, ws);
+            case "Dijkstra": return PathAlgorithms.solveDijkstra(grid, start, end, false, ws);
+            case "A*": return PathAlgorithms.solveAStar(grid, start, end, false, ws);
+            default: throw new IllegalArgumentException("Unsupported batch algorithm: " + algo + " (BFS, DFS, Dijkstra, A*)");
+        }
+    }
+
+    // Bagi range query jadi dua sampai cukup kecil, lalu solve berurutan
+    private class SolveRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<int[]> pairs;
+        private final String algo;
+        private final PathAlgorithms.GridResult[] out;
+        private final ConcurrentLinkedQueue<PathAlgorithms.Workspace> workspaces;
+        private final int from, to;
+
+        SolveRange(List<int[]> pairs, String algo, PathAlgorithms.GridResult[] out,
+                   ConcurrentLinkedQueue<PathAlgorithms.Workspace> workspaces, int from, int to) {
+            this.pairs = pairs;
+            this.algo = algo;
+            this.out = out;
+            this.workspaces = workspaces;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                PathAlgorithms.Workspace ws = workspaces.poll();
+                if (ws == null) ws = new PathAlgorithms.Workspace(grid.size());
+                for (int i = from; i < to; i++) {
+                    int[] q = pairs.get(i);
+                    out[i] = solveOne(q[0], q[1], algo, ws);
+                }
+                workspaces.offer(ws);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SolveRange(pairs, algo, out, workspaces, from, mid),
+                      new SolveRange(pairs, algo, out, workspaces, mid, to));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package Maze;
+
+
+// BitboardBFS (BFS Word-Parallel di atas Bitboard long[])
+// Peta jalan/tembok disimpan 1 bit per sel: baris r menempati 'words' long
+// berurutan, bit (c & 63) dari word r*words + (c >>> 6). Satu level BFS =
+// geser frontier kiri/kanan (dengan carry antar word) dan salin ke baris
+// atas/bawah, lalu AND dengan open & ~visited: 64 sel per operasi.
+// Hanya word yang berisi frontier yang diproses, jadi koridor sempit di
+// maze besar tidak menyapu seluruh grid tiap level.
+//
+// Untuk path, level tiap sel disimpan modulo 3 di dua bitplane (2 bit/sel):
+// tetangga sel berlevel L hanya bisa L-1, L, atau L+1, jadi dari end cukup
+// mundur ke tetangga dengan level (L-1) mod 3. Panjang path = solveBFS.
+//
+// Memori: 6 bit/sel (open, visited, frontier, next, 2 plane level)
+// + 3 int per word = ~100 MB untuk 10^8 sel, tanpa objek per sel.
+// Reset antar query hanya menyentuh word yang dikunjungi query sebelumnya.
+class BitboardBFS {
+    final int rows, cols;
+    final int words; // long per baris
+    private final long[] open;
+    private final long[] visited, frontier, next;
+    private final long[] level0, level1; // Level mod 3: bit0, bit1
+    private int[] active, nextActive;    // Index word yang berisi frontier
+    private final int[] touched;         // Word yang pernah dikunjungi (untuk clear cepat)
+    private int activeCount, nextCount, touchedCount;
+    private int expanded;
+
+    public BitboardBFS(CompactGrid grid) {
+        rows = grid.rows;
+        cols = grid.cols;
+        words = (cols + 63) >>> 6;
+        int total = rows * words;
+        open = new long[total];
+        for (int r = 0; r < rows; r++) {
+            int base = r * cols;
+            for (int w = 0; w < words; w++) {
+                long bits = 0;
+                int end = Math.min(cols, (w + 1) << 6);
+                for (int c = w << 6; c < end; c++) {
+                    if (grid.isOpen(base + c)) bits |= 1L << c;
+                }
+                open[r * words + w] = bits;
+            }
+        }
+        visited = new long[total];
+        frontier = new long[total];
+        next = new long[total];
+        level0 = new long[total];
+        level1 = new long[total];
+        active = new int[total];
+        nextActive = new int[total];
+        touched = new int[total];
+    }
+
+    public static BitboardBFS fromCells(Cell[][] grid) {
+        return new BitboardBFS(CompactGrid.fromCells(grid));
+    }
+
+    // Jarak hop terpendek start -> end, -1 jika tidak terjangkau
+    public int distance(int start, int end) {
+        return search(start, end, false);
+    }
+
+    // Hanya cek terjangkau: run horizontal diisi sekaligus (occluded fill),
+    // jadi satu iterasi bisa menyapu koridor horizontal sepanjang apa pun
+    public boolean reachable(int start, int end) {
+        return search(start, end, true) >= 0;
+    }
+
+    // Sel yang di-expand pencarian terakhir (distance / reachable / solve)
+    public int getExpanded() {
+        return expanded;
+    }
+
+    // BFS lengkap dengan path (PackedPath), panjang identik dengan solveBFS
+    public PathAlgorithms.GridResult solve(int start, int end) {
+        PathAlgorithms.GridResult res = new PathAlgorithms.GridResult();
+        int dist = search(start, end, false);
+        res.expanded = expanded;
+        if (dist < 0) return res;
+
+        // Mundur dari end; langkah ke-(level-1) adalah arah prev -> cur
+        long[] moves = new long[(dist + 31) >>> 5];
+        int cur = end;
+        for (int level = dist; level > 0; level--) {
+            int want = (level - 1) % 3;
+            int r = cur / cols, c = cur % cols;
+            int move;
+            if (r > 0 && hasLevel(r - 1, c, want)) move = PackedPath.DOWN;
+            else if (r < rows - 1 && hasLevel(r + 1, c, want)) move = PackedPath.UP;
+            else if (c > 0 && hasLevel(r, c - 1, want)) move = PackedPath.RIGHT;
+            else move = PackedPath.LEFT; // Pasti kanan
+            PackedPath.setMove(moves, level - 1, move);
+            cur -= PackedPath.delta(move, cols);
+        }
+        res.path = new PackedPath(start, cols, dist + 1, moves);
+        return res;
+    }
+
+    // Level-synchronous BFS. saturate = isi seluruh run horizontal per iterasi
+    // (level tidak lagi berarti jarak, hanya untuk reachability).
+    private int search(int start, int end, boolean saturate) {
+        clear();
+        int sr = start / cols, sc = start % cols;
+        int er = end / cols, ec = end % cols;
+        int endWord = er * words + (ec >>> 6);
+        long endBit = 1L << ec;
+        if ((open[sr * words + (sc >>> 6)] & (1L << sc)) == 0) return -1; // Start tembok
+
+        int s = sr * words + (sc >>> 6);
+        next[s] = 1L << sc;
+        nextActive[nextCount++] = s;
+
+        for (int level = 0; ; level++) {
+            // 1. Kandidat level ini -> frontier baru (buang tembok & yang sudah dikunjungi)
+            for (int i = 0; i < activeCount; i++) frontier[active[i]] = 0;
+            int[] swap = active;
+            active = nextActive;
+            nextActive = swap;
+            activeCount = 0;
+            int candidates = nextCount;
+            nextCount = 0;
+            for (int i = 0; i < candidates; i++) {
+                int j = active[i];
+                long free = open[j] & ~visited[j];
+                long f = next[j] & free;
+                next[j] = 0;
+                if (f == 0) continue;
+                if (saturate) f = fillHigh(f, free) | fillLow(f, free);
+                if (visited[j] == 0) touched[touchedCount++] = j;
+                visited[j] |= f;
+                frontier[j] = f;
+                active[activeCount++] = j;
+                expanded += Long.bitCount(f);
+                if (!saturate) {
+                    int m = level % 3;
+                    if ((m & 1) != 0) level0[j] |= f;
+                    if ((m & 2) != 0) level1[j] |= f;
+                }
+            }
+            if ((visited[endWord] & endBit) != 0) return level;
+            if (activeCount == 0) return -1;
+
+            // 2. Ekspansi: kiri/kanan (carry antar word dalam satu baris), atas/bawah
+            for (int i = 0; i < activeCount; i++) {
+                int j = active[i];
+                long f = frontier[j];
+                int w = j % words;
+                push(j, (f << 1) | (f >>> 1));
+                if (w > 0) push(j - 1, f << 63);
+                if (w < words - 1) push(j + 1, f >>> 63);
+                if (j >= words) push(j - words, f);
+                if (j < next.length - words) push(j + words, f);
+            }
+        }
+    }
+
+    private void push(int j, long bits) {
+        if (bits == 0) return;
+        if (next[j] == 0) nextActive[nextCount++] = j;
+        next[j] |= bits;
+    }
+
+    // Hapus sisa pencarian sebelumnya: hanya word yang tersentuh, bukan O(grid)
+    private void clear() {
+        for (int i = 0; i < touchedCount; i++) {
+            int j = touched[i];
+            visited[j] = 0;
+            level0[j] = 0;
+            level1[j] = 0;
+        }
+        for (int i = 0; i < activeCount; i++) frontier[active[i]] = 0;
+        for (int i = 0; i < nextCount; i++) next[nextActive[i]] = 0;
+        touchedCount = 0;
+        activeCount = 0;
+        nextCount = 0;
+        expanded = 0;
+    }
+
+    private boolean hasLevel(int r, int c, int level) {
+        int j = r * words + (c >>> 6);
+        long bit = 1L << c;
+        if ((visited[j] & bit) == 0) return false;
+        int m = ((level0[j] & bit) != 0 ? 1 : 0) | ((level1[j] & bit) != 0 ? 2 : 0);
+        return m == level;
+    }
+
+    // Occluded fill (Kogge-Stone): sebarkan gen ke bit lebih tinggi selama pro = 1
+    private static long fillHigh(long gen, long pro) {
+        gen |= pro & (gen << 1);
+        pro &= pro << 1;
+        gen |= pro & (gen << 2);
+        pro &= pro << 2;
+        gen |= pro & (gen << 4);
+        pro &= pro << 4;
+        gen |= pro & (gen << 8);
+        pro &= pro << 8;
+        gen |= pro & (gen << 16);
+        pro &= pro << 16;
+        return gen | (pro & (gen << 32));
+    }
+
+    // Sama, ke bit lebih rendah
+    private static long fillLow(long gen, long pro) {
+        gen |= pro & (gen >>> 1);
+        pro &= pro >>> 1;
+        gen |= pro & (gen >>> 2);
+        pro &= pro >>> 2;
+        gen |= pro & (gen >>> 4);
+        pro &= pro >>> 4;
+        gen |= pro & (gen >>> 8);
+        pro &= pro >>> 8;
+        gen |= pro & (gen >>> 16);
+        pro &= pro >>> 16;
+        return gen | (pro & (gen >>> 32));
+    }
+}
@@ -0,0 +1,99 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// BucketQueue (Circular Bucket Queue untuk Dial's Algorithm)
+// Bobot terrain integer kecil (1, 5, 10), jadi semua jarak di antrian selalu
+// berada di [cur, cur + maxWeight]. Cukup maxWeight+1 bucket melingkar:
+// push O(1), poll O(1) amortized, tanpa perbandingan heap.
+class BucketQueue implements MinQueue {
+    private final int[][] buckets;
+    private final int[] counts;
+    private final int[] best;         // Jarak terbaru per id
+    private final boolean[] queued;   // true jika id masih menunggu
+    private int size;                 // Termasuk entry usang
+    private int cur;                  // Jarak bucket yang sedang diproses
+    private boolean started;
+
+    public BucketQueue(int capacity, int maxWeight) {
+        int n = maxWeight + 1;
+        buckets = new int[n][16];
+        counts = new int[n];
+        best = new int[capacity];
+        queued = new boolean[capacity];
+    }
+
+    @Override
+    public void insertOrDecrease(int id, double priority) {
+        int d = (int) priority;
+        if (queued[id] && d >= best[id]) return;
+        if (!started) {
+            cur = d; // Mulai dari jarak entry pertama (mis. h(start) pada A*)
+            started = true;
+        }
+        if (d < cur || d - cur >= buckets.length) {
+            throw new IllegalArgumentException("Priority outside the bucket range: " + d);
+        }
+        best[id] = d;
+        queued[id] = true;
+
+        int b = d % buckets.length;
+        if (counts[b] == buckets[b].length) {
+            buckets[b] = Arrays.copyOf(buckets[b], counts[b] * 2);
+        }
+        buckets[b][counts[b]++] = id;
+        size++;
+    }
+
+    @Override
+    public int poll() {
+        advance();
+        int b = cur % buckets.length;
+        int id = buckets[b][--counts[b]];
+        size--;
+        queued[id] = false;
+        return id;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        advance();
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double minPriority() {
+        advance();
+        return cur;
+    }
+
+    @Override
+    public void clear() {
+        for (int b = 0; b < buckets.length; b++) {
+            for (int i = 0; i < counts[b]; i++) queued[buckets[b][i]] = false;
+            counts[b] = 0;
+        }
+        size = 0;
+        started = false;
+    }
+
+    // Maju ke bucket tidak kosong berikutnya, buang entry usang di jalan
+    private void advance() {
+        while (size > 0) {
+            int b = cur % buckets.length;
+            while (counts[b] > 0) {
+                int id = buckets[b][counts[b] - 1];
+                if (queued[id] && best[id] == cur) return;
+                counts[b]--;
+                size--;
+            }
+            cur++;
+        }
+    }
+}
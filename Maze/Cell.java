@@ -2,14 +2,11 @@ package Maze;
 
 
 // Cell (Representasi Node/Grid)
-class Cell implements Comparable<Cell> {
+class Cell {
     int r, c;           // Koordinat Baris dan Kolom
     int type;           // 0=Wall, 1=Grass, 2=Mud, 3=Water
     boolean visited;    // Status kunjungan visualisasi
-    Cell parent;        // Untuk backtracking path
-    double gCost;       // Biaya dari start (Dijkstra/A*)
-    double hCost;       // Heuristik ke end (A*)
-    double fCost;       // Total cost (g + h)
+    boolean visitedFromEnd; // Dikunjungi front mundur (bidirectional)
 
     // Konstanta Berat
     public static final int COST_GRASS = 1;
@@ -20,17 +17,13 @@ class Cell implements Comparable<Cell> {
         this.r = r;
         this.c = c;
         this.type = type;
-        this.gCost = Double.MAX_VALUE;
-        this.fCost = Double.MAX_VALUE;
     }
 
-    // Reset data pathfinding tanpa mengubah tipe terrain
+    // Reset status visualisasi tanpa mengubah tipe terrain.
+    // State pencarian (gCost, parent) ada di SearchContext, bukan di sini.
     public void reset() {
         this.visited = false;
-        this.parent = null;
-        this.gCost = Double.MAX_VALUE;
-        this.hCost = 0;
-        this.fCost = Double.MAX_VALUE;
+        this.visitedFromEnd = false;
     }
 
     // Mendapatkan berat (weight) berdasarkan tipe
@@ -40,11 +33,4 @@ class Cell implements Comparable<Cell> {
         if (type == 3) return COST_WATER;
         return 999; // Wall
     }
-
-    // Diperlukan untuk PriorityQueue (Dijkstra/A*)
-    @Override
-    public int compareTo(Cell other) {
-        return Double.compare(this.fCost, other.fCost);
-    }
 }
-
@@ -0,0 +1,107 @@
+package Maze;
+
+
+// CompactGrid (Struct-of-Arrays Grid untuk Maze Raksasa)
+// Terrain disimpan sebagai byte[] dengan index r*cols+c, tanpa objek Cell.
+// State pencarian (parent, gCost) tidak disimpan di sini, tapi di array
+// primitif paralel milik solver (lihat PathAlgorithms versi CompactGrid).
+//
+// Perkiraan memori per sel (JVM 64-bit, compressed oops):
+//   Cell[][]    : ~32 byte objek Cell + 4 byte referensi = ~36 byte/sel
+//                 (+ ~12 byte/sel SearchContext saat solve)
+//   CompactGrid : 1 byte terrain
+//                 + 2 bit parent + 1 bit seen (BFS/DFS) = ~1.4 byte/sel
+//                 + 4 byte gCost  (Dijkstra/A*)         = ~5.3 byte/sel
+// Jadi grid 10^7 sel butuh ~53 MB dan 10^8 sel ~530 MB untuk solve berbobot.
+// Path hasil solve juga 2 bit per langkah (PackedPath), bukan int[].
+// Subclass MappedGrid menyimpan terrain off-heap (file 2 bit/sel, lihat MazeFile).
+class CompactGrid {
+    final int rows, cols;
+    private final byte[] terrain; // 0=Wall, 1=Grass, 2=Mud, 3=Water
+
+    public CompactGrid(int rows, int cols) {
+        this(rows, cols, true);
+    }
+
+    // allocate=false: subclass menyediakan storage terrain sendiri
+    protected CompactGrid(int rows, int cols, boolean allocate) {
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.terrain = allocate ? new byte[rows * cols] : null; // Default semua Wall (0)
+    }
+
+    public int size() {
+        return rows * cols;
+    }
+
+    public int index(int r, int c) {
+        return r * cols + c;
+    }
+
+    public int row(int idx) {
+        return idx / cols;
+    }
+
+    public int col(int idx) {
+        return idx % cols;
+    }
+
+    public int getType(int idx) {
+        return terrain[idx];
+    }
+
+    public void setType(int idx, int type) {
+        terrain[idx] = (byte) type;
+    }
+
+    public boolean isOpen(int idx) {
+        return getType(idx) != 0;
+    }
+
+    // Berat sama persis dengan Cell.getWeight()
+    public int getWeight(int idx) {
+        int type = getType(idx);
+        if (type == 1) return Cell.COST_GRASS;
+        if (type == 2) return Cell.COST_MUD;
+        if (type == 3) return Cell.COST_WATER;
+        return 999; // Wall
+    }
+
+    // Isi 'out' dengan tetangga valid (bukan tembok), urutan Atas, Bawah, Kiri, Kanan
+    // seperti PathAlgorithms.getNeighbors. Mengembalikan jumlah tetangga.
+    public int neighbors(int idx, int[] out) {
+        int r = idx / cols;
+        int c = idx - r * cols;
+        int n = 0;
+        if (r > 0 && isOpen(idx - cols)) out[n++] = idx - cols;
+        if (r < rows - 1 && isOpen(idx + cols)) out[n++] = idx + cols;
+        if (c > 0 && isOpen(idx - 1)) out[n++] = idx - 1;
+        if (c < cols - 1 && isOpen(idx + 1)) out[n++] = idx + 1;
+        return n;
+    }
+
+    // Konversi dari grid objek (MazePanel) ke CompactGrid
+    public static CompactGrid fromCells(Cell[][] grid) {
+        CompactGrid g = new CompactGrid(grid.length, grid[0].length);
+        for (int r = 0; r < g.rows; r++) {
+            for (int c = 0; c < g.cols; c++) {
+                g.terrain[r * g.cols + c] = (byte) grid[r][c].type;
+            }
+        }
+        return g;
+    }
+
+    // Konversi balik ke Cell[][] agar MazePanel bisa menampilkannya
+    public Cell[][] toCells() {
+        Cell[][] grid = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                grid[r][c] = new Cell(r, c, getType(r * cols + c));
+            }
+        }
+        return grid;
+    }
+}
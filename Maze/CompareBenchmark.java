@@ -0,0 +1,165 @@
+package Maze;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+// CompareBenchmark (Mode Ukur untuk "Compare All")
+// Setiap pasangan (maze, algoritma) diukur di thread sendiri pada salinan
+// grid sendiri; pasangan-pasangan berjalan paralel (maks jumlah core).
+// Per pasangan: beberapa solve warmup (JIT), lalu trial berulang. Jumlah
+// trial menyesuaikan lama satu solve (target ~1 detik, 10..200 trial).
+// Hasil: median/p90/p99 waktu, ekspansi per detik (pada median) dan byte
+// alokasi per solve (ThreadMXBean.getThreadAllocatedBytes, seperti MazeBenchmark).
+// Index HPA* / ALT dibangun pada salinan grid, di luar pengukuran.
+// Cancel dicek juga di dalam tiap solve (listener task.cancelCheck()), jadi
+// Reset / New Maze tidak menunggu satu solve besar selesai.
+class CompareBenchmark {
+    private static final int WARMUP_TRIALS = 5;
+    private static final int MIN_TRIALS = 10;
+    private static final int MAX_TRIALS = 200;
+    private static final long TRIAL_BUDGET_NANOS = 1_000_000_000L; // Target waktu ukur per pasangan
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static volatile Object sink; // Blackhole: cegah JIT membuang hasil
+
+    // Satu maze yang diukur (grid tidak diubah; tiap job menyalinnya)
+    static final class Case {
+        final String label;
+        final Cell[][] grid;
+        final int startR, startC, endR, endC;
+
+        Case(String label, Cell[][] grid, Cell start, Cell end) {
+            this.label = label;
+            this.grid = grid;
+            this.startR = start.r;
+            this.startC = start.c;
+            this.endR = end.r;
+            this.endC = end.c;
+        }
+    }
+
+    // Satu baris tabel hasil
+    static final class Row {
+        String maze, algo;
+        int trials, expanded;
+        double cost = -1; // -1 jika tidak ada path
+        double medianMs, p90Ms, p99Ms, expansionsPerSec, allocBytes;
+    }
+
+    // Ukur semua pasangan; urutan hasil = urutan cases x algos.
+    // Cancel lewat task: job berhenti di ekspansi berikutnya.
+    static List<Row> run(List<Case> cases, String[] algos, SolveTask task) {
+        int jobs = cases.size() * algos.length;
+        int threads = Math.min(jobs, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "bench-" + threadId.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        AtomicInteger done = new AtomicInteger();
+        task.report(String.format("Benchmark: 0/%d", jobs));
+        List<Future<Row>> futures = new ArrayList<>();
+        for (Case c : cases) {
+            for (String algo : algos) {
+                futures.add(pool.submit(() -> {
+                    Row row = measure(c, algo, task);
+                    task.report(String.format("Benchmark: %d/%d", done.incrementAndGet(), jobs));
+                    return row;
+                }));
+            }
+        }
+
+        try {
+            List<Row> rows = new ArrayList<>();
+            for (Future<Row> f : futures) rows.add(f.get());
+            return rows;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) throw (CancellationException) e.getCause();
+            throw new IllegalStateException("Benchmark failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Warmup + trial untuk satu pasangan, di thread job
+    private static Row measure(Case c, String algo, SolveTask task) {
+        Cell[][] grid = copy(c.grid, task);
+        Cell start = grid[c.startR][c.startC], end = grid[c.endR][c.endC];
+        task.checkCancelled();
+        HierarchicalPathfinder hpa = algo.equals("HPA*")
+            ? new HierarchicalPathfinder(grid, MazePanel.HPA_CLUSTER_SIZE) : null;
+        LandmarkHeuristic alt = algo.equals("A*-ALT")
+            ? new LandmarkHeuristic(grid, MazePanel.ALT_LANDMARKS) : null;
+
+        Row row = new Row();
+        row.maze = c.label;
+        row.algo = algo;
+        long thread = Thread.currentThread().getId();
+        int n = grid.length * grid[0].length;
+        try (SearchContext ctx = SearchContext.acquire(n);
+             SearchContext bwd = SearchContext.acquire(n)) {
+            ctx.withListener(task.cancelCheck()); // Bidirectional: front mundur juga lapor ke ctx
+            long warmup = 0;
+            PathAlgorithms.Result res = null;
+            for (int i = 0; i < WARMUP_TRIALS; i++) {
+                task.checkCancelled();
+                long t0 = System.nanoTime();
+                res = MazePanel.solve(algo, grid, start, end, hpa, alt, ctx, bwd);
+                warmup = System.nanoTime() - t0; // Solve terakhir = paling mendekati JIT akhir
+            }
+            if (res != null) {
+                row.expanded = res.expanded;
+                if (!res.path.isEmpty()) row.cost = PathAlgorithms.calculatePathCost(grid, res.path);
+            }
+
+            int trials = (int) Math.max(MIN_TRIALS, Math.min(MAX_TRIALS, TRIAL_BUDGET_NANOS / Math.max(1, warmup)));
+            long[] nanos = new long[trials];
+            long allocated = 0;
+            for (int i = 0; i < trials; i++) {
+                task.checkCancelled();
+                long a0 = THREADS.getThreadAllocatedBytes(thread);
+                long t0 = System.nanoTime();
+                sink = MazePanel.solve(algo, grid, start, end, hpa, alt, ctx, bwd);
+                nanos[i] = System.nanoTime() - t0;
+                allocated += THREADS.getThreadAllocatedBytes(thread) - a0;
+            }
+
+            Arrays.sort(nanos);
+            row.trials = trials;
+            row.medianMs = percentile(nanos, 0.50) / 1e6;
+            row.p90Ms = percentile(nanos, 0.90) / 1e6;
+            row.p99Ms = percentile(nanos, 0.99) / 1e6;
+            row.expansionsPerSec = row.medianMs > 0 ? row.expanded / (row.medianMs / 1000) : 0;
+            row.allocBytes = (double) allocated / trials;
+        }
+        return row;
+    }
+
+    // Nearest-rank pada data terurut
+    private static long percentile(long[] sorted, double q) {
+        int rank = (int) Math.ceil(q * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    // Salinan terrain (Cell baru; state visualisasi tidak ikut), cek cancel per baris
+    private static Cell[][] copy(Cell[][] grid, SolveTask task) {
+        Cell[][] copy = new Cell[grid.length][grid[0].length];
+        for (int r = 0; r < grid.length; r++) {
+            task.checkCancelled(); // Maze besar: salinan bisa makan waktu
+            for (int c = 0; c < grid[0].length; c++) {
+                copy[r][c] = new Cell(r, c, grid[r][c].type);
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,288 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// ComponentIndex (Label Komponen Terhubung untuk Cek Reachability O(1))
+// Tiap sel jalan diberi label komponen (4-tetangga, semua tipe non-tembok);
+// start & end saling terjangkau <=> labelnya sama. "No Path Found" bisa
+// dijawab tanpa solver yang membanjiri seluruh region terjangkau dulu.
+//
+// Build: union-find di array primitif (path halving, union by size) satu
+// pass atas/kiri, lalu diratakan jadi label[] agar query cukup satu baca.
+// Edit satu sel diperbarui inkremental (updateCell), tanpa build ulang:
+//   - tembok -> jalan : gabung komponen tetangga; yang lebih kecil di-relabel
+//   - jalan -> tembok : jika tetangga masih tersambung lewat 8 sel di sekitarnya,
+//                       selesai O(1); jika tidak, BFS bergiliran dari tiap
+//                       tetangga. Potongan yang habis duluan = komponen baru,
+//                       jadi biaya sebanding potongan kecil, bukan seluruh grid.
+//   - jalan -> jalan  : (ganti bobot) konektivitas tidak berubah
+class ComponentIndex {
+    private static final int WALL = -1;
+
+    // Keliling 3x3 searah jarum jam dari utara (indeks genap = 4-tetangga)
+    private static final int[] RING_DR = {-1, -1, 0, 1, 1, 1, 0, -1};
+    private static final int[] RING_DC = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    private final Cell[][] grid;
+    private final int rows, cols;
+    private final int[] label;  // Label komponen per sel, WALL untuk tembok
+    private int[] sizes;        // Jumlah sel per label
+    private int labelCount;
+
+    // Workspace BFS pemisahan (dibuat saat pertama dibutuhkan, lalu dipakai ulang)
+    private final int[][] queues = new int[4][16]; // Tumbuh sesuai potongan yang dikunjungi
+    private int[] mark;  // (epoch << 2) | grup yang pertama mengunjungi sel
+    private int epoch;
+
+    public ComponentIndex(Cell[][] grid) {
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        int n = rows * cols;
+
+        // 1. Union-find: tiap sel jalan digabung dengan tetangga atas & kiri
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int id = r * cols + c;
+                if (grid[r][c].type == 0) {
+                    parent[id] = WALL;
+                    continue;
+                }
+                parent[id] = id;
+                size[id] = 1;
+                if (r > 0 && parent[id - cols] != WALL) union(parent, size, id, id - cols);
+                if (c > 0 && parent[id - 1] != WALL) union(parent, size, id, id - 1);
+            }
+        }
+
+        // 2. Ratakan: root -> label berurutan
+        label = new int[n];
+        int[] rootLabel = new int[n];
+        Arrays.fill(rootLabel, WALL);
+        for (int id = 0; id < n; id++) {
+            if (parent[id] == WALL) {
+                label[id] = WALL;
+                continue;
+            }
+            int root = find(parent, id);
+            if (rootLabel[root] == WALL) rootLabel[root] = labelCount++;
+            label[id] = rootLabel[root];
+        }
+        sizes = new int[Math.max(16, labelCount)];
+        for (int id = 0; id < n; id++) {
+            if (label[id] != WALL) sizes[label[id]]++;
+        }
+    }
+
+    // O(1): a dan b (id sel) sama-sama jalan dan satu komponen
+    public boolean connected(int a, int b) {
+        return label[a] != WALL && label[a] == label[b];
+    }
+
+    public boolean connected(Cell a, Cell b) {
+        return connected(a.r * cols + a.c, b.r * cols + b.c);
+    }
+
+    // Jumlah komponen yang tidak kosong (label yang sudah kosong tidak dihitung)
+    public int componentCount() {
+        int count = 0;
+        for (int l = 0; l < labelCount; l++) {
+            if (sizes[l] > 0) count++;
+        }
+        return count;
+    }
+
+    // Panggil setelah grid[r][c].type berubah
+    public void updateCell(int r, int c) {
+        int id = r * cols + c;
+        boolean open = grid[r][c].type != 0;
+        if (open == (label[id] != WALL)) return; // Ganti bobot saja
+        if (open) addCell(id);
+        else removeCell(id);
+    }
+
+    // ---------------------------------------------
+    // Tembok -> jalan: gabung ke komponen tetangga terbesar
+    // ---------------------------------------------
+    private void addCell(int id) {
+        int target = WALL;
+        for (int d = 0; d < 4; d++) {
+            int nb = neighbor(id, d);
+            if (nb >= 0 && label[nb] != WALL && (target == WALL || sizes[label[nb]] > sizes[target])) {
+                target = label[nb];
+            }
+        }
+        if (target == WALL) target = newLabel();
+
+        label[id] = target;
+        sizes[target]++;
+        for (int d = 0; d < 4; d++) {
+            int nb = neighbor(id, d);
+            if (nb >= 0 && label[nb] != WALL && label[nb] != target) relabel(nb, label[nb], target);
+        }
+    }
+
+    // Flood komponen 'from' yang memuat sel start menjadi label 'to'
+    private void relabel(int start, int from, int to) {
+        int[] queue = queues[0];
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        label[start] = to;
+        while (head < tail) {
+            int cur = queue[head++];
+            for (int d = 0; d < 4; d++) {
+                int nb = neighbor(cur, d);
+                if (nb >= 0 && label[nb] == from) {
+                    label[nb] = to;
+                    if (tail == queue.length) queues[0] = queue = Arrays.copyOf(queue, tail * 2);
+                    queue[tail++] = nb;
+                }
+            }
+        }
+        sizes[to] += tail;
+        sizes[from] -= tail;
+    }
+
+    // ---------------------------------------------
+    // Jalan -> tembok: deteksi pemisahan komponen
+    // ---------------------------------------------
+    private void removeCell(int id) {
+        int old = label[id];
+        label[id] = WALL;
+        sizes[old]--;
+
+        int[] starts = new int[4];
+        int k = 0;
+        for (int d = 0; d < 4; d++) {
+            int nb = neighbor(id, d);
+            if (nb >= 0 && label[nb] != WALL) starts[k++] = nb;
+        }
+        if (k <= 1 || ringConnected(id)) return; // Ujung buntu / masih ada jalan memutar lokal
+
+        // BFS bergiliran, satu sel per grup per putaran. Grup yang bertemu digabung
+        // (class); class yang kehabisan antrian lebih dulu terpisah -> label baru.
+        if (mark == null) mark = new int[rows * cols];
+        epoch++;
+        int[] heads = new int[k], tails = new int[k], cls = new int[k];
+        for (int g = 0; g < k; g++) {
+            queues[g][tails[g]++] = starts[g];
+            mark[starts[g]] = epoch << 2 | g;
+            cls[g] = g;
+        }
+        boolean[] done = new boolean[k]; // Class sudah selesai (terpisah)
+        int active = k;
+
+        while (active > 1) {
+            for (int g = 0; g < k; g++) {
+                if (heads[g] == tails[g]) continue;
+                int[] queue = queues[g];
+                int cur = queue[heads[g]++];
+                for (int d = 0; d < 4; d++) {
+                    int nb = neighbor(cur, d);
+                    if (nb < 0 || label[nb] != old) continue;
+                    if (mark[nb] >>> 2 != epoch) {
+                        mark[nb] = epoch << 2 | g;
+                        if (tails[g] == queue.length) queues[g] = queue = Arrays.copyOf(queue, tails[g] * 2);
+                        queue[tails[g]++] = nb;
+                    } else {
+                        int a = root(cls, g), b = root(cls, mark[nb] & 3);
+                        if (a != b) {
+                            cls[b] = a;
+                            if (--active == 1) return; // Semua tetangga masih satu komponen
+                        }
+                    }
+                }
+            }
+
+            // Class yang semua antriannya habis = seluruh potongannya sudah dikunjungi
+            for (int g = 0; g < k; g++) {
+                int c = root(cls, g);
+                if (done[c] || !exhausted(c, cls, heads, tails)) continue;
+                done[c] = true;
+                int split = newLabel();
+                for (int h = 0; h < k; h++) {
+                    if (root(cls, h) != c) continue;
+                    for (int i = 0; i < tails[h]; i++) label[queues[h][i]] = split;
+                    sizes[split] += tails[h];
+                    sizes[old] -= tails[h];
+                }
+                if (--active == 1) return; // Sisa class tetap memakai label lama
+            }
+        }
+    }
+
+    // Tetangga terbuka saling tersambung lewat 8 sel di sekeliling id
+    private boolean ringConnected(int id) {
+        int r = id / cols, c = id % cols;
+        boolean[] open = new boolean[8];
+        int firstClosed = -1;
+        for (int i = 0; i < 8; i++) {
+            int nr = r + RING_DR[i], nc = c + RING_DC[i];
+            open[i] = nr >= 0 && nr < rows && nc >= 0 && nc < cols && label[nr * cols + nc] != WALL;
+            if (!open[i] && firstClosed < 0) firstClosed = i;
+        }
+        if (firstClosed < 0) return true;
+
+        // Jalan keliling dari sel tertutup; run = deretan sel terbuka berurutan
+        int run = 0, neighborRun = -1;
+        for (int step = 1; step <= 8; step++) {
+            int i = (firstClosed + step) % 8;
+            if (open[i] && !open[(i + 7) % 8]) run++;
+            if (open[i] && i % 2 == 0) {
+                if (neighborRun < 0) neighborRun = run;
+                else if (neighborRun != run) return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean exhausted(int c, int[] cls, int[] heads, int[] tails) {
+        for (int g = 0; g < cls.length; g++) {
+            if (root(cls, g) == c && heads[g] != tails[g]) return false;
+        }
+        return true;
+    }
+
+    private static int root(int[] cls, int g) {
+        while (cls[g] != g) g = cls[g];
+        return g;
+    }
+
+    private int newLabel() {
+        if (labelCount == sizes.length) sizes = Arrays.copyOf(sizes, sizes.length * 2);
+        sizes[labelCount] = 0;
+        return labelCount++;
+    }
+
+    // Tetangga arah d (0 atas, 1 bawah, 2 kiri, 3 kanan); -1 = di luar grid
+    private int neighbor(int id, int d) {
+        switch (d) {
+            case 0: return id >= cols ? id - cols : -1;
+            case 1: return id + cols < rows * cols ? id + cols : -1;
+            case 2: return id % cols > 0 ? id - 1 : -1;
+            default: return id % cols < cols - 1 ? id + 1 : -1;
+        }
+    }
+
+    // ---------------------------------------------
+    // Union-find (hanya untuk build awal)
+    // ---------------------------------------------
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int[] size, int a, int b) {
+        int ra = find(parent, a), rb = find(parent, b);
+        if (ra == rb) return;
+        if (size[ra] < size[rb]) { int t = ra; ra = rb; rb = t; }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+    }
+}
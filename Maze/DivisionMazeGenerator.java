@@ -0,0 +1,64 @@
+package Maze;
+
+import java.util.Arrays;
+import java.util.Random;
+
+
+// DivisionMazeGenerator (Recursive Division)
+// Kebalikan generator lain: mulai dari ruang kosong, lalu tiap ruang
+// dibelah tembok lurus dengan satu celah, sampai ruang selebar satu sel.
+// Tiap sel hanya ditulis O(log) kali dan tidak ada struktur per sel selain
+// grid itu sendiri, jadi biasanya yang tercepat. Hasilnya koridor panjang
+// lurus (mudah untuk JPS). Rekursi diganti stack eksplisit (int[]) agar
+// grid besar tidak StackOverflowError.
+class DivisionMazeGenerator implements MazeGenerator {
+    @Override
+    public String getName() {
+        return "Recursive Division";
+    }
+
+    @Override
+    public void carve(byte[] cells, int rows, int cols, Random rand) {
+        int m = (cols - 1) / 2, n = (rows - 1) / 2;
+
+        // Ruang awal: semua kecuali border dan pilar (genap, genap) jadi jalan
+        for (int r = 1; r < rows - 1; r++) {
+            for (int c = 1; c < cols - 1; c++) {
+                if ((r & 1) == 1 || (c & 1) == 1) cells[r * cols + c] = 1;
+            }
+        }
+
+        // Ruang = {baris, kolom, tinggi, lebar} dalam sel logis
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0; stack[top++] = 0; stack[top++] = n; stack[top++] = m;
+
+        while (top > 0) {
+            int w = stack[--top], h = stack[--top], j0 = stack[--top], i0 = stack[--top];
+            if (w < 2 && h < 2) continue;
+            if (top + 8 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+
+            boolean horizontal = h > w || (h == w && rand.nextBoolean());
+            if (horizontal) {
+                // Tembok di bawah baris logis s, celah di kolom logis gap
+                int s = i0 + rand.nextInt(h - 1);
+                int gap = j0 + rand.nextInt(w);
+                int r = 2 * s + 2;
+                for (int j = j0; j < j0 + w; j++) {
+                    if (j != gap) cells[r * cols + 2 * j + 1] = 0;
+                }
+                stack[top++] = i0; stack[top++] = j0; stack[top++] = s - i0 + 1; stack[top++] = w;
+                stack[top++] = s + 1; stack[top++] = j0; stack[top++] = i0 + h - s - 1; stack[top++] = w;
+            } else {
+                int s = j0 + rand.nextInt(w - 1);
+                int gap = i0 + rand.nextInt(h);
+                int c = 2 * s + 2;
+                for (int i = i0; i < i0 + h; i++) {
+                    if (i != gap) cells[(2 * i + 1) * cols + c] = 0;
+                }
+                stack[top++] = i0; stack[top++] = j0; stack[top++] = h; stack[top++] = s - j0 + 1;
+                stack[top++] = i0; stack[top++] = s + 1; stack[top++] = h; stack[top++] = j0 + w - s - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package Maze;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+
+// EllerMazeGenerator (Streaming Maze Generator, Eller's Algorithm)
+// Menghasilkan maze sempurna baris demi baris dengan memori O(lebar):
+// hanya set per kolom di baris aktif yang disimpan, bukan seluruh grid
+// atau frontier / union-find seperti generator MazeGenerator.
+//
+// Layout sama dengan MazePanel: sel di koordinat ganjil, tembok di genap,
+// border luar selalu tembok. Setelah itu diterapkan pass yang sama:
+// braiding (lubang loop acak ~10% tembok interior), dua jalur horizontal
+// panjang (carvePath di ROWS/4 dan ROWS*3/4), dan bobot Grass/Mud/Water.
+class EllerMazeGenerator {
+    private static final int LOOP_CHANCE = 10; // % tembok interior yang dibuka (braiding)
+
+    private final int rows, cols;
+    private final Random rand;
+    private final boolean weighted;
+
+    public EllerMazeGenerator(int rows, int cols, Random rand, boolean weighted) {
+        if (rows < 3 || cols < 3 || rows % 2 == 0 || cols % 2 == 0) {
+            throw new IllegalArgumentException("Maze size must be odd and >= 3: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.rand = rand;
+        this.weighted = weighted;
+    }
+
+    public void generate(RowSink sink) throws IOException {
+        int m = (cols - 1) / 2; // Sel logis per baris
+        int n = (rows - 1) / 2; // Baris logis
+
+        byte[] row = new byte[cols];
+        boolean[] pending = new boolean[cols];  // Bukaan carvePath untuk baris berikutnya
+        int[] label = new int[m];               // Set dari baris atas (-1 = set baru)
+        int[] uf = new int[m];
+        int[] firstSeen = new int[m];
+        int[] remaining = new int[m];
+        boolean[] hasDown = new boolean[m];
+        boolean[] right = new boolean[m];
+        boolean[] down = new boolean[m];
+        Arrays.fill(label, -1);
+
+        int carveA = odd(rows / 4), carveB = odd(rows * 3 / 4);
+
+        sink.begin(rows, cols);
+        emit(sink, 0, row, pending, carveA, carveB); // Border atas
+
+        for (int i = 0; i < n; i++) {
+            boolean last = i == n - 1;
+
+            // 1. Set baris ini: sel yang tersambung ke atas mewarisi set yang sama
+            for (int j = 0; j < m; j++) uf[j] = j;
+            Arrays.fill(firstSeen, -1);
+            for (int j = 0; j < m; j++) {
+                int l = label[j];
+                if (l < 0) continue;
+                if (firstSeen[l] < 0) firstSeen[l] = j;
+                else union(uf, j, firstSeen[l]);
+            }
+
+            // 2. Gabung horizontal secara acak (baris terakhir: gabung semua set)
+            for (int j = 0; j < m - 1; j++) {
+                right[j] = find(uf, j) != find(uf, j + 1) && (last || rand.nextBoolean());
+                if (right[j]) union(uf, j, j + 1);
+            }
+            Arrays.fill(row, (byte) 0);
+            for (int j = 0; j < m; j++) {
+                row[2 * j + 1] = 1;
+                if (j < m - 1 && right[j]) row[2 * j + 2] = 1;
+            }
+            emit(sink, 2 * i + 1, row, pending, carveA, carveB);
+            if (last) break;
+
+            // 3. Sambung vertikal: tiap set minimal satu sel turun ke bawah
+            Arrays.fill(remaining, 0);
+            Arrays.fill(hasDown, false);
+            for (int j = 0; j < m; j++) remaining[find(uf, j)]++;
+            for (int j = 0; j < m; j++) {
+                int root = find(uf, j);
+                remaining[root]--;
+                down[j] = rand.nextBoolean() || (remaining[root] == 0 && !hasDown[root]);
+                if (down[j]) hasDown[root] = true;
+            }
+            Arrays.fill(row, (byte) 0);
+            for (int j = 0; j < m; j++) {
+                label[j] = down[j] ? find(uf, j) : -1;
+                if (down[j]) row[2 * j + 1] = 1;
+            }
+            emit(sink, 2 * i + 2, row, pending, carveA, carveB);
+        }
+
+        Arrays.fill(row, (byte) 0);
+        emit(sink, rows - 1, row, pending, carveA, carveB); // Border bawah
+        sink.end();
+    }
+
+    // Terapkan braiding, carvePath, start/end dan bobot, lalu kirim ke sink
+    private void emit(RowSink sink, int r, byte[] row, boolean[] pending,
+                      int carveA, int carveB) throws IOException {
+        boolean interior = r > 0 && r < rows - 1;
+        if (interior) {
+            // Bukaan dari carvePath baris sebelumnya
+            for (int c = 0; c < cols; c++) {
+                if (pending[c]) row[c] = 1;
+                pending[c] = false;
+            }
+
+            // Jalur horizontal panjang, kadang melebar ke baris bawah
+            if (r == carveA || r == carveB) {
+                for (int c = 2; c < cols - 2; c++) {
+                    row[c] = 1;
+                    if (rand.nextInt(10) < 2 && r + 1 < rows - 1) pending[c] = true;
+                }
+            }
+
+            // Braiding: lubangi tembok interior secara acak
+            for (int c = 1; c < cols - 1; c++) {
+                if (row[c] == 0 && rand.nextInt(100) < LOOP_CHANCE) row[c] = 1;
+            }
+
+            // Start (1,1) & End (rows-2, cols-2) selalu jalan
+            if (r == 1) row[1] = 1;
+            if (r == rows - 2) row[cols - 2] = 1;
+
+            if (weighted) {
+                for (int c = 1; c < cols - 1; c++) {
+                    if (row[c] != 0) {
+                        int chance = rand.nextInt(100);
+                        if (chance < 65) row[c] = 1;      // Grass
+                        else if (chance < 85) row[c] = 2; // Mud
+                        else row[c] = 3;                  // Water
+                    }
+                }
+                if (r == 1) row[1] = 1;
+                if (r == rows - 2) row[cols - 2] = 1;
+            }
+        }
+        sink.acceptRow(r, row);
+    }
+
+    private static int odd(int row) {
+        return row % 2 == 0 ? row + 1 : row;
+    }
+
+    private static int find(int[] uf, int x) {
+        while (uf[x] != x) {
+            uf[x] = uf[uf[x]];
+            x = uf[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] uf, int a, int b) {
+        uf[find(uf, a)] = find(uf, b);
+    }
+}
@@ -0,0 +1,310 @@
+package Maze;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+
+// ExperimentRunner (Headless Command-Line Runner)
+// Generate maze dengan ukuran & seed tertentu, jalankan sebagian/semua
+// algoritma N kali, lalu tulis CSV/JSON per run: wall time, node yang
+// di-expand, path cost, peak heap. Tidak butuh X display.
+//
+// Contoh:
+//   java -Djava.awt.headless=true Maze.ExperimentRunner \
+//        --sizes 101x101,501x501 --seeds 1,2,3 --algos BFS,Dijkstra,A* \
+//        --repeat 5 --format csv --out results.csv
+//
+// --batch N: per maze, N pasangan start/end acak (seeded) diselesaikan
+// paralel lewat BatchSolver (hanya BFS/DFS/Dijkstra/A*); satu baris per
+// algoritma dengan algo "batch:<algo>", expanded & path_cost dijumlah.
+// Algoritma CompactGrid (tanpa Cell[][], untuk maze 10^7-10^8 sel):
+//   Compact-BFS    : PathAlgorithms.solveBFS di CompactGrid
+//   Bitboard       : BitboardBFS.solve (path, panjang sama dengan BFS)
+//   Bitboard-Reach : BitboardBFS.reachable (path_cost 0 = terjangkau, -1 = tidak)
+// Bitboard dibangun sekali per maze, di luar waktu yang diukur. Contoh:
+//   java -Xmx1g Maze.ExperimentRunner --sizes 10001x10001 \
+//        --algos Compact-BFS,Bitboard,Bitboard-Reach
+// --write-maze FILE: stream maze Eller (ukuran & seed pertama) langsung ke
+// file MazeFile tanpa grid di heap, lalu selesai; buka lewat Load Maze.
+// --threads T memakai ForkJoinPool sendiri (default: common pool), mis.
+// bandingkan --threads 1 dengan jumlah core untuk melihat skalanya.
+class ExperimentRunner {
+
+    static final String[] DEFAULT_ALGOS = {"BFS", "DFS", "Dijkstra", "A*"};
+    static final List<String> COMPACT_ALGOS = Arrays.asList("Compact-BFS", "Bitboard", "Bitboard-Reach");
+
+    // Satu baris hasil
+    static class Run {
+        int rows, cols, repeat;
+        long seed;
+        String algo;
+        double wallMs;
+        long expanded;
+        double pathCost;   // -1 jika tidak ada path
+        long peakHeapBytes;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        List<int[]> sizes = new ArrayList<>();
+        List<Long> seeds = new ArrayList<>();
+        List<String> algos = new ArrayList<>(Arrays.asList(DEFAULT_ALGOS));
+        int repeat = 1;
+        boolean weighted = true;
+        String format = "csv";
+        String outFile = null;
+        int batch = 0;     // 0 = satu query pojok ke pojok
+        int threads = 0;   // 0 = ForkJoinPool.commonPool()
+        String mazeFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            String val = i + 1 < args.length ? args[i + 1] : null;
+            switch (arg) {
+                case "--sizes":
+                    for (String s : val.split(",")) {
+                        String[] rc = s.toLowerCase().split("x");
+                        sizes.add(new int[]{Integer.parseInt(rc[0]), Integer.parseInt(rc[1])});
+                    }
+                    i++;
+                    break;
+                case "--seeds":
+                    for (String s : val.split(",")) seeds.add(Long.parseLong(s.trim()));
+                    i++;
+                    break;
+                case "--algos":
+                    algos = Arrays.asList(val.split(","));
+                    i++;
+                    break;
+                case "--repeat": repeat = Integer.parseInt(val); i++; break;
+                case "--weighted": weighted = Boolean.parseBoolean(val); i++; break;
+                case "--format": format = val.toLowerCase(); i++; break;
+                case "--out": outFile = val; i++; break;
+                case "--batch": batch = Integer.parseInt(val); i++; break;
+                case "--threads": threads = Integer.parseInt(val); i++; break;
+                case "--write-maze": mazeFile = val; i++; break;
+                default:
+                    System.err.println("Unknown argument: " + arg);
+                    printUsage();
+                    System.exit(2);
+            }
+        }
+        if (sizes.isEmpty()) sizes.add(new int[]{35, 45}); // Ukuran default MazePanel
+        if (seeds.isEmpty()) seeds.add(1L);
+        if (mazeFile != null) {
+            int[] size = sizes.get(0);
+            writeMaze(new File(mazeFile), size[0], size[1], seeds.get(0), weighted);
+            return;
+        }
+
+        List<Run> runs = new ArrayList<>();
+        ForkJoinPool pool = threads > 0 ? new ForkJoinPool(threads) : ForkJoinPool.commonPool();
+        for (int[] size : sizes) {
+            for (long seed : seeds) {
+                // Cell[][] hanya dibuat jika ada algoritma yang membutuhkannya
+                boolean needCells = batch > 0;
+                for (String algo : algos) needCells |= !COMPACT_ALGOS.contains(algo.trim());
+                Cell[][] grid = needCells ? generate(size[0], size[1], seed, weighted) : null;
+                if (batch > 0) {
+                    runBatch(grid, size, seed, batch, algos, pool, runs);
+                    continue;
+                }
+                CompactGrid compact = null;
+                BitboardBFS bitboard = null;
+                for (String algo : algos) {
+                    if (COMPACT_ALGOS.contains(algo.trim()) && compact == null) {
+                        compact = generateCompact(size[0], size[1], seed, weighted);
+                        long t0 = System.nanoTime();
+                        bitboard = new BitboardBFS(compact);
+                        System.err.printf("%dx%d seed=%d bitboard build: %.2f ms%n",
+                            size[0], size[1], seed, (System.nanoTime() - t0) / 1e6);
+                    }
+                    for (int k = 0; k < repeat; k++) {
+                        Run run = COMPACT_ALGOS.contains(algo.trim())
+                            ? runCompact(compact, bitboard, algo.trim())
+                            : runOnce(grid, grid[1][1], grid[grid.length - 2][grid[0].length - 2], algo.trim());
+                        run.rows = size[0];
+                        run.cols = size[1];
+                        run.seed = seed;
+                        run.repeat = k;
+                        runs.add(run);
+                        System.err.printf("%dx%d seed=%d %s #%d: %.2f ms%n",
+                            run.rows, run.cols, seed, run.algo, k, run.wallMs);
+                    }
+                }
+            }
+        }
+
+        try (PrintStream out = outFile == null ? System.out : new PrintStream(new FileOutputStream(outFile))) {
+            if (format.equals("json")) writeJson(out, runs);
+            else writeCsv(out, runs);
+        }
+        if (pool != ForkJoinPool.commonPool()) pool.shutdown();
+    }
+
+    // Mode --batch: query acak antar sel jalan, diselesaikan paralel oleh BatchSolver
+    private static void runBatch(Cell[][] grid, int[] size, long seed, int count, List<String> algos,
+                                 ForkJoinPool pool, List<Run> runs) {
+        CompactGrid compact = CompactGrid.fromCells(grid);
+        int[] open = new int[compact.size()];
+        int n = 0;
+        for (int id = 0; id < compact.size(); id++) {
+            if (compact.isOpen(id)) open[n++] = id;
+        }
+        Random rand = new Random(seed);
+        List<int[]> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) pairs.add(new int[]{open[rand.nextInt(n)], open[rand.nextInt(n)]});
+
+        BatchSolver solver = new BatchSolver(compact, pool);
+        for (String algo : algos) {
+            resetPeakHeap();
+            BatchSolver.BatchResult res = solver.solveAll(pairs, algo.trim());
+
+            Run run = new Run();
+            run.rows = size[0];
+            run.cols = size[1];
+            run.seed = seed;
+            run.algo = "batch:" + algo.trim();
+            run.wallMs = res.wallNanos / 1000000.0;
+            run.expanded = res.totalExpanded;
+            for (PathAlgorithms.GridResult r : res.results) {
+                if (!r.path.isEmpty()) run.pathCost += PathAlgorithms.calculatePathCost(compact, r.path);
+            }
+            run.peakHeapBytes = peakHeap();
+            runs.add(run);
+            System.err.printf("%dx%d seed=%d %s (%d threads): %s%n",
+                run.rows, run.cols, seed, run.algo, pool.getParallelism(), res);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: ExperimentRunner [--sizes RxC,...] [--seeds s1,s2,...] "
+            + "[--algos BFS,DFS,Dijkstra,A*] [--repeat N] [--weighted true|false] "
+            + "[--format csv|json] [--out file] [--batch N] [--threads T] [--write-maze file]");
+    }
+
+    // Maze seeded, ukuran bebas (ganjil), karakter sama dengan MazePanel
+    static Cell[][] generate(int rows, int cols, long seed, boolean weighted) throws IOException {
+        RowSink.ToCells sink = new RowSink.ToCells();
+        new EllerMazeGenerator(rows, cols, new Random(seed), weighted).generate(sink);
+        return sink.getGrid();
+    }
+
+    // Maze yang sama dengan generate(), langsung ke CompactGrid (1 byte/sel)
+    static CompactGrid generateCompact(int rows, int cols, long seed, boolean weighted) throws IOException {
+        RowSink.ToCompactGrid sink = new RowSink.ToCompactGrid();
+        new EllerMazeGenerator(rows, cols, new Random(seed), weighted).generate(sink);
+        return sink.getGrid();
+    }
+
+    // Generator -> MazeFile.Writer: memori O(lebar), jadi ukuran dibatasi disk, bukan heap.
+    // Seed disimpan 0: seed di UI berarti generator MazePanel, bukan Eller.
+    static void writeMaze(File file, int rows, int cols, long seed, boolean weighted) throws IOException {
+        try (MazeFile.Writer writer = new MazeFile.Writer(file, 1, 1, rows - 2, cols - 2, 0)) {
+            new EllerMazeGenerator(rows, cols, new Random(seed), weighted).generate(writer);
+        }
+    }
+
+    static Run runOnce(Cell[][] grid, Cell start, Cell end, String algo) {
+        resetPeakHeap();
+
+        long t0 = System.nanoTime();
+        PathAlgorithms.Result res = solve(grid, start, end, algo);
+        long t1 = System.nanoTime();
+
+        Run run = new Run();
+        run.algo = algo;
+        run.wallMs = (t1 - t0) / 1000000.0;
+        run.expanded = res.expanded;
+        run.pathCost = res.path.isEmpty() ? -1 : PathAlgorithms.calculatePathCost(grid, res.path);
+        run.peakHeapBytes = peakHeap();
+        return run;
+    }
+
+    // Start (1,1) ke pojok kanan bawah, sama dengan runOnce
+    static Run runCompact(CompactGrid grid, BitboardBFS bitboard, String algo) {
+        int start = grid.index(1, 1), end = grid.index(grid.rows - 2, grid.cols - 2);
+        resetPeakHeap();
+
+        Run run = new Run();
+        run.algo = algo;
+        long t0 = System.nanoTime();
+        switch (algo) {
+            case "Compact-BFS":
+            case "Bitboard": {
+                PathAlgorithms.GridResult res = algo.equals("Bitboard")
+                    ? bitboard.solve(start, end) : PathAlgorithms.solveBFS(grid, start, end, false);
+                run.wallMs = (System.nanoTime() - t0) / 1000000.0;
+                run.expanded = res.expanded;
+                run.pathCost = res.path.isEmpty() ? -1 : PathAlgorithms.calculatePathCost(grid, res.path);
+                break;
+            }
+            default: {
+                boolean reachable = bitboard.reachable(start, end);
+                run.wallMs = (System.nanoTime() - t0) / 1000000.0;
+                run.expanded = bitboard.getExpanded();
+                run.pathCost = reachable ? 0 : -1;
+            }
+        }
+        run.peakHeapBytes = peakHeap();
+        return run;
+    }
+
+    static PathAlgorithms.Result solve(Cell[][] grid, Cell start, Cell end, String algo) {
+        switch (algo) {
+            case "BFS": return PathAlgorithms.solveBFS(grid, start, end);
+            case "DFS": return PathAlgorithms.solveDFS(grid, start, end);
+            case "Dijkstra": return PathAlgorithms.solveDijkstra(grid, start, end);
+            case "Dial": return PathAlgorithms.solveDial(grid, start, end);
+            case "A*": return PathAlgorithms.solveAStar(grid, start, end);
+            case "JPS": return PathAlgorithms.solveJPS(grid, start, end);
+            case "Bi-Dijkstra": return PathAlgorithms.solveBiDijkstra(grid, start, end);
+            case "Bi-A*": return PathAlgorithms.solveBiAStar(grid, start, end);
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algo);
+        }
+    }
+
+    // Peak heap = jumlah peak usage semua memory pool heap sejak reset.
+    // GC dulu agar sampah dari run sebelumnya tidak ikut terhitung.
+    private static void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) total += pool.getPeakUsage().getUsed();
+        }
+        return total;
+    }
+
+    static void writeCsv(PrintStream out, List<Run> runs) {
+        out.println("rows,cols,seed,algo,repeat,wall_ms,expanded,path_cost,peak_heap_bytes");
+        for (Run r : runs) {
+            out.printf(Locale.ROOT, "%d,%d,%d,%s,%d,%.3f,%d,%.1f,%d%n",
+                r.rows, r.cols, r.seed, r.algo, r.repeat, r.wallMs, r.expanded, r.pathCost, r.peakHeapBytes);
+        }
+    }
+
+    static void writeJson(PrintStream out, List<Run> runs) {
+        out.println("[");
+        for (int i = 0; i < runs.size(); i++) {
+            Run r = runs.get(i);
+            out.printf(Locale.ROOT,
+                "  {\"rows\": %d, \"cols\": %d, \"seed\": %d, \"algo\": \"%s\", \"repeat\": %d, "
+                + "\"wall_ms\": %.3f, \"expanded\": %d, \"path_cost\": %.1f, \"peak_heap_bytes\": %d}%s%n",
+                r.rows, r.cols, r.seed, r.algo, r.repeat, r.wallMs, r.expanded, r.pathCost, r.peakHeapBytes,
+                i < runs.size() - 1 ? "," : "");
+        }
+        out.println("]");
+    }
+}
@@ -0,0 +1,475 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// HierarchicalPathfinder (HPA* - Hierarchical Pathfinding A*)
+// Grid dibagi menjadi cluster KxK. Di setiap perbatasan antar cluster dicari
+// "entrance" (segmen sel terbuka di kedua sisi) dan dipilih sel transisi.
+// Sel transisi menjadi node graf abstrak:
+//   - edge antar cluster : transisi a -> b, biaya = weight(b)
+//   - edge intra cluster : biaya Dijkstra terpendek di dalam cluster
+// Abstraksi dibangun sekali setelah generateMaze, lalu dipakai ulang untuk
+// semua query. Query: hubungkan start/end ke node cluster-nya, A* di graf
+// abstrak, lalu refine tiap edge menjadi path sel.
+// Catatan: HPA* near-optimal (path bisa sedikit lebih mahal dari Dijkstra).
+//
+// Semua struktur berupa array primitif per cluster: id sel node, matriks
+// biaya intra k x k, dan edge antar cluster gaya CSR (start per node + id
+// sel tujuan). Query memakai workspace yang dipakai ulang (cap epoch seperti
+// SearchContext + IndexedMinHeap), baik untuk A* abstrak maupun Dijkstra lokal.
+class HierarchicalPathfinder {
+    private static final int MAX_SINGLE_ENTRANCE = 6; // Segmen < 6 sel: 1 transisi di tengah
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    private final Cell[][] grid;
+    private final int rows, cols;
+    private final int clusterSize;
+    private final int clusterRows, clusterCols;
+
+    // Transisi per perbatasan, pasangan datar {selDiClusterIni, selDiClusterTetangga, ...}
+    private final int[][] rightBorders; // Cluster i <-> cluster kanannya
+    private final int[][] downBorders;  // Cluster i <-> cluster bawahnya
+
+    // Graf abstrak per cluster
+    private final int[][] nodes;       // id sel node (k per cluster)
+    private final double[][] intra;    // Biaya node i -> j di dalam cluster: [i * k + j], INF = tidak tersambung
+    private final int[][] crossStart;  // CSR: edge antar cluster node i = crossTo[crossStart[i] .. crossStart[i + 1])
+    private final int[][] crossTo;     // id sel tujuan (node di cluster tetangga)
+
+    // Key node abstrak = base[cluster] + index lokal; start = nodeCount, end = nodeCount + 1
+    private final int[] base;
+    private int[] keyCluster = new int[0];
+    private int nodeCount;
+    private boolean keysDirty = true;
+
+    // Workspace A* abstrak (tumbuh mengikuti nodeCount)
+    private double[] g = new double[0];
+    private int[] parent = new int[0], stamp = new int[0];
+    private int epoch;
+    private IndexedMinHeap open;
+
+    // Workspace Dijkstra lokal (indeks lokal = baris * clusterSize + kolom di dalam cluster)
+    private final double[] localDist;
+    private final int[] localParent, localStamp, localChain;
+    private final int[] localNeighbors = new int[4];
+    private int localEpoch, localCluster, localSource;
+    private final IndexedMinHeap localOpen;
+
+    public HierarchicalPathfinder(Cell[][] grid, int clusterSize) {
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.clusterSize = clusterSize;
+        this.clusterRows = (rows + clusterSize - 1) / clusterSize;
+        this.clusterCols = (cols + clusterSize - 1) / clusterSize;
+
+        int count = clusterRows * clusterCols;
+        rightBorders = new int[count][0];
+        downBorders = new int[count][0];
+        nodes = new int[count][0];
+        intra = new double[count][0];
+        crossStart = new int[count][1];
+        crossTo = new int[count][0];
+        base = new int[count];
+
+        int area = clusterSize * clusterSize;
+        localDist = new double[area];
+        localParent = new int[area];
+        localStamp = new int[area];
+        localChain = new int[area];
+        localOpen = new IndexedMinHeap(area);
+
+        // 1. Entrance di semua perbatasan
+        for (int cl = 0; cl < count; cl++) {
+            rebuildBorder(cl, true);
+            rebuildBorder(cl, false);
+        }
+        // 2. Node, edge antar cluster & biaya intra cluster
+        for (int cl = 0; cl < count; cl++) {
+            rebuildCluster(cl);
+        }
+    }
+
+    public int getNodeCount() {
+        int n = 0;
+        for (int[] ns : nodes) n += ns.length;
+        return n;
+    }
+
+    // ---------------------------------------------
+    // Update inkremental saat type satu sel berubah
+    // ---------------------------------------------
+    public synchronized void updateCell(int r, int c) {
+        int cl = clusterOf(r * cols + c);
+        int cr = cl / clusterCols, cc = cl % clusterCols;
+        int[] dirty = new int[5];
+        int n = 0;
+        dirty[n++] = cl;
+
+        // Sel di tepi cluster: entrance perbatasan itu ikut berubah
+        if (c == cc * clusterSize && cc > 0) {
+            rebuildBorder(cl - 1, true);
+            dirty[n++] = cl - 1;
+        }
+        if (c == Math.min((cc + 1) * clusterSize, cols) - 1 && cc < clusterCols - 1) {
+            rebuildBorder(cl, true);
+            dirty[n++] = cl + 1;
+        }
+        if (r == cr * clusterSize && cr > 0) {
+            rebuildBorder(cl - clusterCols, false);
+            dirty[n++] = cl - clusterCols;
+        }
+        if (r == Math.min((cr + 1) * clusterSize, rows) - 1 && cr < clusterRows - 1) {
+            rebuildBorder(cl, false);
+            dirty[n++] = cl + clusterCols;
+        }
+
+        for (int i = 0; i < n; i++) rebuildCluster(dirty[i]);
+    }
+
+    // ---------------------------------------------
+    // Query
+    // ---------------------------------------------
+    public PathAlgorithms.Result findPath(Cell start, Cell end) {
+        return findPath(start, end, SearchListener.NONE);
+    }
+
+    // listener menerima node abstrak yang di-expand (bukan sel refine)
+    public synchronized PathAlgorithms.Result findPath(Cell start, Cell end, SearchListener listener) {
+        PathAlgorithms.Result res = new PathAlgorithms.Result();
+        int s = start.r * cols + start.c, t = end.r * cols + end.c;
+        if (s == t) {
+            res.path = new PackedPath.Builder(cols).add(s).build();
+            return res;
+        }
+        prepareKeys();
+        int startKey = nodeCount, endKey = nodeCount + 1;
+        int sc = clusterOf(s), tc = clusterOf(t);
+
+        // 1. Sambungkan start & end ke node di cluster masing-masing
+        localSearch(s, sc, false);
+        double[] fromStart = new double[nodes[sc].length];
+        for (int j = 0; j < fromStart.length; j++) fromStart[j] = localCost(nodes[sc][j]);
+        double direct = sc == tc ? localCost(t) : INF; // Start & end di cluster yang sama
+        localSearch(t, tc, true);
+        double[] toEnd = new double[nodes[tc].length];
+        for (int j = 0; j < toEnd.length; j++) toEnd[j] = localCost(nodes[tc][j]);
+
+        // 2. A* di graf abstrak
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        open.clear();
+        relax(-1, startKey, 0, s, t);
+
+        while (!open.isEmpty()) {
+            int key = open.poll();
+            int cell = cellOf(key, s, t);
+            double gc = g[key];
+            res.expanded++;
+            listener.expanded(cell, false);
+
+            if (key == endKey) {
+                res.path = refine(key, s, t);
+                return res;
+            }
+            if (key == startKey) {
+                for (int j = 0; j < fromStart.length; j++) {
+                    if (fromStart[j] < INF) relax(key, base[sc] + j, fromStart[j], nodes[sc][j], t);
+                }
+                if (direct < INF) relax(key, endKey, direct, t, t);
+                continue;
+            }
+
+            int cl = keyCluster[key], i = key - base[cl], k = nodes[cl].length;
+            double[] costs = intra[cl];
+            for (int j = 0; j < k; j++) {
+                if (costs[i * k + j] < INF) relax(key, base[cl] + j, gc + costs[i * k + j], nodes[cl][j], t);
+            }
+            for (int e = crossStart[cl][i]; e < crossStart[cl][i + 1]; e++) {
+                int to = crossTo[cl][e], tcl = clusterOf(to);
+                relax(key, base[tcl] + indexOf(nodes[tcl], to), gc + weight(to), to, t);
+            }
+            if (cl == tc && toEnd[i] < INF) relax(key, endKey, gc + toEnd[i], t, t);
+        }
+        return res; // Tidak ketemu
+    }
+
+    private void relax(int from, int to, double newCost, int cell, int t) {
+        if (stamp[to] == epoch && newCost >= g[to]) return;
+        stamp[to] = epoch;
+        g[to] = newCost;
+        parent[to] = from;
+        open.insertOrDecrease(to, newCost + manhattan(cell, t));
+    }
+
+    private int cellOf(int key, int s, int t) {
+        if (key == nodeCount) return s;
+        if (key == nodeCount + 1) return t;
+        int cl = keyCluster[key];
+        return nodes[cl][key - base[cl]];
+    }
+
+    // 3. Refine: ubah tiap edge abstrak menjadi path sel
+    private PackedPath refine(int endKey, int s, int t) {
+        int hops = 0;
+        for (int key = endKey; key >= 0; key = parent[key]) hops++;
+        int[] keys = new int[hops];
+        for (int key = endKey, i = hops - 1; key >= 0; key = parent[key], i--) keys[i] = key;
+
+        PackedPath.Builder path = new PackedPath.Builder(cols).add(s);
+        for (int i = 1; i < hops; i++) {
+            int from = cellOf(keys[i - 1], s, t), to = cellOf(keys[i], s, t);
+            if (i == 1) {
+                localSearch(s, clusterOf(s), false);         // start -> node (atau langsung end)
+                appendForward(path, to);
+            } else if (i == hops - 1) {
+                localSearch(t, clusterOf(t), true);          // node -> end
+                appendReverse(path, from);
+            } else if (clusterOf(from) != clusterOf(to)) {
+                path.add(to);                                // Edge antar cluster (bersebelahan)
+            } else {
+                localSearch(from, clusterOf(from), false);
+                appendForward(path, to);
+            }
+        }
+        return path.build();
+    }
+
+    // Susun key: base per cluster + workspace A* sebesar jumlah node
+    private void prepareKeys() {
+        if (!keysDirty) return;
+        nodeCount = 0;
+        for (int cl = 0; cl < nodes.length; cl++) {
+            base[cl] = nodeCount;
+            nodeCount += nodes[cl].length;
+        }
+        keyCluster = new int[nodeCount];
+        for (int cl = 0; cl < nodes.length; cl++) {
+            Arrays.fill(keyCluster, base[cl], base[cl] + nodes[cl].length, cl);
+        }
+        if (g.length < nodeCount + 2) {
+            int capacity = (nodeCount + 2) * 5 / 4; // Ruang untuk node baru dari edit
+            g = new double[capacity];
+            parent = new int[capacity];
+            stamp = new int[capacity];
+            epoch = 0;
+            open = new IndexedMinHeap(capacity);
+        }
+        keysDirty = false;
+    }
+
+    // ---------------------------------------------
+    // Pembangunan abstraksi
+    // ---------------------------------------------
+
+    // Hitung ulang transisi di perbatasan kanan (horizontal=true) atau bawah cluster cl
+    private void rebuildBorder(int cl, boolean right) {
+        int cr = cl / clusterCols, cc = cl % clusterCols;
+        if (right && cc == clusterCols - 1) return;
+        if (!right && cr == clusterRows - 1) return;
+
+        // Sel di kedua sisi perbatasan
+        int len = right ? Math.min((cr + 1) * clusterSize, rows) - cr * clusterSize
+                        : Math.min((cc + 1) * clusterSize, cols) - cc * clusterSize;
+        int[] border = new int[4 * len];
+        int n = 0, segStart = -1;
+        for (int i = 0; i <= len; i++) {
+            boolean passable = i < len && isOpen(borderCell(cl, right, i, false)) && isOpen(borderCell(cl, right, i, true));
+            if (passable && segStart < 0) segStart = i;
+            if (!passable && segStart >= 0) {
+                int segEnd = i - 1;
+                if (segEnd - segStart + 1 < MAX_SINGLE_ENTRANCE) {
+                    n = addTransition(border, n, cl, right, (segStart + segEnd) / 2);
+                } else {
+                    n = addTransition(border, n, cl, right, segStart);
+                    n = addTransition(border, n, cl, right, segEnd);
+                }
+                segStart = -1;
+            }
+        }
+        if (right) rightBorders[cl] = Arrays.copyOf(border, n);
+        else downBorders[cl] = Arrays.copyOf(border, n);
+    }
+
+    // Sel ke-i di perbatasan; other=false sisi cluster cl, other=true sisi tetangga
+    private int borderCell(int cl, boolean right, int i, boolean other) {
+        int cr = cl / clusterCols, cc = cl % clusterCols;
+        if (right) {
+            int c = (cc + 1) * clusterSize - 1 + (other ? 1 : 0);
+            return (cr * clusterSize + i) * cols + c;
+        }
+        int r = (cr + 1) * clusterSize - 1 + (other ? 1 : 0);
+        return r * cols + cc * clusterSize + i;
+    }
+
+    private int addTransition(int[] border, int n, int cl, boolean right, int i) {
+        border[n++] = borderCell(cl, right, i, false);
+        border[n++] = borderCell(cl, right, i, true);
+        return n;
+    }
+
+    // Susun ulang node cluster cl (sisi cl dari semua transisi di 4 perbatasannya),
+    // edge antar cluster-nya, lalu biaya intra (Dijkstra lokal dari tiap node)
+    private void rebuildCluster(int cl) {
+        int cr = cl / clusterCols, cc = cl % clusterCols;
+        int[][] borders = {
+            rightBorders[cl], downBorders[cl],
+            cc > 0 ? rightBorders[cl - 1] : new int[0],
+            cr > 0 ? downBorders[cl - clusterCols] : new int[0]
+        };
+
+        // Pasangan (node, tujuan): pada perbatasan milik tetangga, sisi cl ada di posisi kedua
+        int total = 0;
+        for (int[] b : borders) total += b.length / 2;
+        int[] from = new int[total], to = new int[total];
+        int pairs = 0;
+        for (int b = 0; b < borders.length; b++) {
+            boolean own = b < 2;
+            for (int i = 0; i < borders[b].length; i += 2) {
+                from[pairs] = borders[b][own ? i : i + 1];
+                to[pairs++] = borders[b][own ? i + 1 : i];
+            }
+        }
+
+        // Node unik (sel pojok bisa transisi di dua perbatasan)
+        int[] ns = new int[total];
+        int k = 0;
+        for (int p = 0; p < pairs; p++) {
+            if (indexOf(ns, k, from[p]) < 0) ns[k++] = from[p];
+        }
+        ns = Arrays.copyOf(ns, k);
+
+        // CSR edge antar cluster
+        int[] start = new int[k + 1];
+        for (int p = 0; p < pairs; p++) start[indexOf(ns, from[p]) + 1]++;
+        for (int i = 0; i < k; i++) start[i + 1] += start[i];
+        int[] targets = new int[pairs], fill = Arrays.copyOf(start, k);
+        for (int p = 0; p < pairs; p++) targets[fill[indexOf(ns, from[p])]++] = to[p];
+
+        // Biaya intra: baris i = Dijkstra lokal dari node i
+        double[] costs = new double[k * k];
+        for (int i = 0; i < k; i++) {
+            localSearch(ns[i], cl, false);
+            for (int j = 0; j < k; j++) costs[i * k + j] = i == j ? INF : localCost(ns[j]);
+        }
+
+        nodes[cl] = ns;
+        crossStart[cl] = start;
+        crossTo[cl] = targets;
+        intra[cl] = costs;
+        keysDirty = true;
+    }
+
+    private static int indexOf(int[] values, int value) {
+        return indexOf(values, values.length, value);
+    }
+
+    private static int indexOf(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return i;
+        }
+        return -1;
+    }
+
+    // ---------------------------------------------
+    // Dijkstra lokal (dibatasi satu cluster, workspace dipakai ulang)
+    // ---------------------------------------------
+    // reverse=false: biaya source -> v. reverse=true: biaya v -> source.
+    // Hasil berlaku sampai localSearch berikutnya (localCost / append*).
+    private void localSearch(int source, int cl, boolean reverse) {
+        if (++localEpoch == Integer.MAX_VALUE) {
+            Arrays.fill(localStamp, 0);
+            localEpoch = 1;
+        }
+        localCluster = cl;
+        localSource = source;
+        localOpen.clear();
+        int si = localIndex(source);
+        localStamp[si] = localEpoch;
+        localDist[si] = 0;
+        localParent[si] = -1;
+        localOpen.insertOrDecrease(si, 0);
+        int r0 = (cl / clusterCols) * clusterSize, c0 = (cl % clusterCols) * clusterSize;
+
+        while (!localOpen.isEmpty()) {
+            int ui = localOpen.poll();
+            int u = (r0 + ui / clusterSize) * cols + c0 + ui % clusterSize;
+            double du = localDist[ui];
+
+            int n = neighbors(u, localNeighbors);
+            for (int i = 0; i < n; i++) {
+                int v = localNeighbors[i];
+                if (clusterOf(v) != cl) continue;
+                int vi = localIndex(v);
+                double newCost = du + (reverse ? weight(u) : weight(v));
+                if (localStamp[vi] != localEpoch || newCost < localDist[vi]) {
+                    localStamp[vi] = localEpoch;
+                    localDist[vi] = newCost;
+                    localParent[vi] = ui;
+                    localOpen.insertOrDecrease(vi, newCost);
+                }
+            }
+        }
+    }
+
+    // Biaya ke/dari sel (harus di cluster pencarian terakhir), INF jika tidak terjangkau
+    private double localCost(int id) {
+        int i = localIndex(id);
+        return clusterOf(id) == localCluster && localStamp[i] == localEpoch ? localDist[i] : INF;
+    }
+
+    // Pencarian maju: tambahkan path source -> target (tanpa source) ke builder
+    private void appendForward(PackedPath.Builder path, int target) {
+        int n = 0;
+        for (int i = localIndex(target); localParent[i] >= 0; i = localParent[i]) localChain[n++] = i;
+        while (n > 0) path.add(cellAt(localChain[--n]));
+    }
+
+    // Pencarian mundur: parent menunjuk ke arah source; tambahkan node -> source (tanpa node)
+    private void appendReverse(PackedPath.Builder path, int node) {
+        for (int i = localParent[localIndex(node)]; i >= 0; i = localParent[i]) path.add(cellAt(i));
+    }
+
+    private int localIndex(int id) {
+        int r = id / cols, c = id % cols;
+        return (r % clusterSize) * clusterSize + c % clusterSize;
+    }
+
+    // Indeks lokal (cluster pencarian terakhir) -> id sel
+    private int cellAt(int localIndex) {
+        int r0 = (localCluster / clusterCols) * clusterSize, c0 = (localCluster % clusterCols) * clusterSize;
+        return (r0 + localIndex / clusterSize) * cols + c0 + localIndex % clusterSize;
+    }
+
+    // ---------------------------------------------
+    // Helper grid
+    // ---------------------------------------------
+    private int clusterOf(int id) {
+        int r = id / cols, c = id % cols;
+        return (r / clusterSize) * clusterCols + (c / clusterSize);
+    }
+
+    private boolean isOpen(int id) {
+        return grid[id / cols][id % cols].type != 0;
+    }
+
+    private int weight(int id) {
+        return grid[id / cols][id % cols].getWeight();
+    }
+
+    private double manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    private int neighbors(int id, int[] out) {
+        int r = id / cols, c = id % cols, n = 0;
+        if (r > 0 && isOpen(id - cols)) out[n++] = id - cols;
+        if (r < rows - 1 && isOpen(id + cols)) out[n++] = id + cols;
+        if (c > 0 && isOpen(id - 1)) out[n++] = id - 1;
+        if (c < cols - 1 && isOpen(id + 1)) out[n++] = id + 1;
+        return n;
+    }
+}
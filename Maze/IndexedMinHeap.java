@@ -0,0 +1,128 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// IndexedMinHeap (4-ary Heap dengan Decrease-Key)
+// pos[id] menyimpan posisi id di dalam heap, jadi decrease-key cukup
+// sift-up dari posisi itu: O(log n) tanpa scan linear.
+class IndexedMinHeap implements MinQueue {
+    private static final int D = 4; // 4-ary: pohon lebih pendek, lebih ramah cache
+
+    private final int[] heap;      // heap[i] = id
+    private final int[] pos;       // pos[id] = index di heap, -1 jika tidak ada
+    private final double[] key;    // key[id] = prioritas
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        key = new double[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    @Override
+    public void insertOrDecrease(int id, double priority) {
+        int i = pos[id];
+        if (i < 0) {
+            i = size++;
+        } else if (priority >= key[id]) {
+            return; // Bukan penurunan, abaikan
+        }
+        key[id] = priority;
+        siftUp(i, id);
+    }
+
+    @Override
+    public int poll() {
+        int top = heap[0];
+        pos[top] = -1;
+        int last = heap[--size];
+        if (size > 0) siftDown(0, last);
+        return top;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double minPriority() {
+        return key[heap[0]];
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    public boolean contains(int id) {
+        return pos[id] >= 0;
+    }
+
+    // Set prioritas (boleh naik atau turun), masukkan jika belum ada
+    public void update(int id, double priority) {
+        int i = pos[id];
+        if (i < 0) {
+            key[id] = priority;
+            siftUp(size++, id);
+        } else if (priority < key[id]) {
+            key[id] = priority;
+            siftUp(i, id);
+        } else {
+            key[id] = priority;
+            siftDown(i, id);
+        }
+    }
+
+    // Hapus id dari heap (jika ada)
+    public void remove(int id) {
+        int i = pos[id];
+        if (i < 0) return;
+        pos[id] = -1;
+        int last = heap[--size];
+        if (i == size) return;
+        if (key[last] < key[id]) siftUp(i, last);
+        else siftDown(i, last);
+    }
+
+    private void siftUp(int i, int id) {
+        double k = key[id];
+        while (i > 0) {
+            int p = (i - 1) / D;
+            int pid = heap[p];
+            if (key[pid] <= k) break;
+            heap[i] = pid;
+            pos[pid] = i;
+            i = p;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    private void siftDown(int i, int id) {
+        double k = key[id];
+        while (true) {
+            int first = i * D + 1;
+            if (first >= size) break;
+            int best = first;
+            int end = Math.min(first + D, size);
+            for (int c = first + 1; c < end; c++) {
+                if (key[heap[c]] < key[heap[best]]) best = c;
+            }
+            if (key[heap[best]] >= k) break;
+            heap[i] = heap[best];
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+}
@@ -0,0 +1,70 @@
+package Maze;
+
+import java.util.Random;
+
+
+// KruskalMazeGenerator (Kruskal Acak + Union-Find)
+// Semua tembok antar sel diacak (Fisher-Yates pada int[]), lalu tembok
+// dibuka jika dua sel di sisinya masih beda set. Union-find di array
+// primitif (parent + size, path halving, union by size): hampir O(1)
+// per tembok, tanpa objek per sel. Berhenti setelah m*n - 1 sambungan.
+class KruskalMazeGenerator implements MazeGenerator {
+    @Override
+    public String getName() {
+        return "Kruskal";
+    }
+
+    @Override
+    public void carve(byte[] cells, int rows, int cols, Random rand) {
+        int m = (cols - 1) / 2, n = (rows - 1) / 2;
+        int total = m * n;
+
+        // Tembok = k * 2 + arah (0 = kanan, 1 = bawah)
+        int[] walls = new int[(m - 1) * n + m * (n - 1)];
+        int count = 0;
+        for (int k = 0; k < total; k++) {
+            cells[MazeGenerator.cellId(k / m, k % m, cols)] = 1;
+            if (k % m < m - 1) walls[count++] = k << 1;
+            if (k / m < n - 1) walls[count++] = k << 1 | 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int r = rand.nextInt(i + 1);
+            int tmp = walls[i];
+            walls[i] = walls[r];
+            walls[r] = tmp;
+        }
+
+        int[] parent = new int[total];
+        int[] size = new int[total];
+        for (int k = 0; k < total; k++) {
+            parent[k] = k;
+            size[k] = 1;
+        }
+
+        int joined = 0;
+        for (int w = 0; w < count && joined < total - 1; w++) {
+            int a = walls[w] >>> 1;
+            int b = (walls[w] & 1) == 0 ? a + 1 : a + m;
+            int ra = find(parent, a), rb = find(parent, b);
+            if (ra == rb) continue; // Sudah tersambung: tembok tetap (cegah loop)
+
+            if (size[ra] < size[rb]) { int t = ra; ra = rb; rb = t; }
+            parent[rb] = ra;
+            size[ra] += size[rb];
+            joined++;
+
+            int ida = MazeGenerator.cellId(a / m, a % m, cols);
+            int idb = MazeGenerator.cellId(b / m, b % m, cols);
+            cells[(ida + idb) / 2] = 1;
+        }
+    }
+
+    // Path halving: tiap node dilompatkan ke kakeknya
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
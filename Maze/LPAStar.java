@@ -0,0 +1,169 @@
+package Maze;
+
+import java.util.*;
+
+
+// LPAStar (Lifelong Planning A*, dasar dari D* Lite)
+// Start dan end di maze ini tetap, jadi cukup LPA* (D* Lite = LPA* terbalik
+// untuk robot yang bergerak). State g/rhs disimpan antar query; saat type
+// sebuah sel berubah, hanya bagian pencarian yang terdampak yang diperbaiki.
+//   g(s)   : biaya terbaik yang sudah "dipastikan" dari start
+//   rhs(s) : min atas predecessor p dari g(p) + c(p, s)
+// Sel dengan g != rhs (inkonsisten) masuk antrian dan diproses ulang.
+class LPAStar {
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    private final Cell[][] grid;
+    private final int rows, cols;
+    private final int start, goal;
+    private final double[] g, rhs;
+    private final IndexedMinHeap open;
+    private final double keyScale; // key = k1 * keyScale + k2 (urutan leksikografis)
+
+    public LPAStar(Cell[][] grid, Cell start, Cell goal) {
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.start = start.r * cols + start.c;
+        this.goal = goal.r * cols + goal.c;
+
+        int n = rows * cols;
+        g = new double[n];
+        rhs = new double[n];
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open = new IndexedMinHeap(n);
+        // Batas atas biaya + heuristik; key tetap exact selama keyScale^2 < 2^53
+        keyScale = (double) n * Cell.COST_WATER + rows + cols + 1;
+
+        rhs[this.start] = 0;
+        open.update(this.start, key(this.start));
+    }
+
+    // Dipanggil setelah grid[r][c].type berubah
+    public void updateCell(int r, int c) {
+        int v = r * cols + c;
+        // Biaya edge masuk ke v (= weight v) dan keluar dari v (tembok) berubah
+        updateVertex(v);
+        int[] nb = new int[4];
+        int n = neighbors(v, nb);
+        for (int i = 0; i < n; i++) updateVertex(nb[i]);
+    }
+
+    // Perbaiki pencarian sampai path ke goal kembali optimal.
+    // expanded & listener hanya mencakup sel yang diproses pada pemanggilan ini.
+    public PathAlgorithms.Result computeShortestPath() {
+        return computeShortestPath(SearchListener.NONE);
+    }
+
+    public PathAlgorithms.Result computeShortestPath(SearchListener listener) {
+        PathAlgorithms.Result res = new PathAlgorithms.Result();
+        int[] nb = new int[4];
+
+        while (!open.isEmpty() && (open.minPriority() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.poll();
+            res.expanded++;
+            listener.expanded(u, false);
+            int n = neighbors(u, nb);
+
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u]; // Overconsistent: turunkan
+                for (int i = 0; i < n; i++) updateVertex(nb[i]);
+            } else {
+                g[u] = INF;    // Underconsistent: naikkan, hitung ulang
+                updateVertex(u);
+                for (int i = 0; i < n; i++) updateVertex(nb[i]);
+            }
+        }
+
+        res.path = extractPath();
+        return res;
+    }
+
+    public double getCost(Cell cell) {
+        return g[cell.r * cols + cell.c];
+    }
+
+    private void updateVertex(int u) {
+        if (u != start) {
+            double best = INF;
+            if (isOpen(u)) {
+                int[] nb = new int[4];
+                int n = neighbors(u, nb);
+                for (int i = 0; i < n; i++) {
+                    best = Math.min(best, g[nb[i]] + weight(u));
+                }
+            }
+            rhs[u] = best;
+        }
+        if (g[u] != rhs[u]) open.update(u, key(u));
+        else open.remove(u);
+    }
+
+    private double key(int u) {
+        double k2 = Math.min(g[u], rhs[u]);
+        if (k2 == INF) return INF;
+        return (k2 + manhattan(u, goal)) * keyScale + k2;
+    }
+
+    // Mundur dari goal: pilih predecessor dengan g(p) + c(p, u) = g(u)
+    // Dua pass: hitung langkah lalu tulis arah dari belakang (tanpa list + reverse)
+    private PackedPath extractPath() {
+        if (g[goal] == INF) return PackedPath.EMPTY; // Tidak ketemu
+
+        int steps = 0;
+        for (int u = goal; u != start; steps++) {
+            u = predecessor(u);
+            if (u < 0) return PackedPath.EMPTY; // Belum konsisten
+        }
+        long[] moves = new long[(steps + 31) >>> 5];
+        int u = goal;
+        for (int step = steps - 1; step >= 0; step--) {
+            int p = predecessor(u);
+            PackedPath.setMove(moves, step, PackedPath.direction(p, u, cols));
+            u = p;
+        }
+        return new PackedPath(start, cols, steps + 1, moves);
+    }
+
+    // Tetangga dengan g terkecil (harus < g[u]), -1 jika tidak ada
+    private int predecessor(int u) {
+        int[] nb = new int[4];
+        int n = neighbors(u, nb);
+        int bestP = -1;
+        double best = INF;
+        for (int i = 0; i < n; i++) {
+            if (g[nb[i]] < best) {
+                best = g[nb[i]];
+                bestP = nb[i];
+            }
+        }
+        return best < g[u] ? bestP : -1;
+    }
+
+    // Tetangga terbuka (bukan tembok); tembok tidak punya edge sama sekali
+    private int neighbors(int id, int[] out) {
+        int r = id / cols, c = id % cols, n = 0;
+        if (r > 0 && isOpen(id - cols)) out[n++] = id - cols;
+        if (r < rows - 1 && isOpen(id + cols)) out[n++] = id + cols;
+        if (c > 0 && isOpen(id - 1)) out[n++] = id - 1;
+        if (c < cols - 1 && isOpen(id + 1)) out[n++] = id + 1;
+        return n;
+    }
+
+    private Cell cellAt(int id) {
+        return grid[id / cols][id % cols];
+    }
+
+    private boolean isOpen(int id) {
+        return cellAt(id).type != 0;
+    }
+
+    private int weight(int id) {
+        return cellAt(id).getWeight();
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+}
@@ -0,0 +1,107 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// LandmarkHeuristic (ALT: A*, Landmarks, Triangle inequality)
+// Preprocessing: Dijkstra penuh dari beberapa landmark yang dipilih dengan
+// farthest-point selection. Jarak disimpan sebagai int[] per landmark
+// (bobot terrain integer), 4 byte/sel/landmark.
+//
+// Biaya path = jumlah bobot sel yang dimasuki, jadi graf tidak simetris.
+// Untuk path yang sama berlaku d(v,L) = d(L,v) + w(L) - w(v), sehingga
+// jarak ke landmark bisa diturunkan dari jarak dari landmark (satu array cukup).
+// Batas bawah d(v,t) dari ketidaksamaan segitiga:
+//   d(L,t) - d(L,v)                      (d(L,t) <= d(L,v) + d(v,t))
+//   d(v,L) - d(t,L) = d(L,v) - d(L,t) + w(t) - w(v)
+class LandmarkHeuristic {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final Cell[][] grid;
+    private final int cols;
+    private final int[][] dist; // dist[k][id] = d(landmark k, sel id)
+    private final Cell[] landmarks;
+
+    public LandmarkHeuristic(Cell[][] grid, int count) {
+        this.grid = grid;
+        this.cols = grid[0].length;
+        int n = grid.length * cols;
+
+        // Seed: sel terbuka pertama; landmark pertama = sel terjauh dari seed
+        int seed = -1;
+        for (int id = 0; id < n && seed < 0; id++) {
+            if (cellAt(id).type != 0) seed = id;
+        }
+        if (seed < 0) count = 0; // Grid tanpa jalan
+
+        dist = new int[count][];
+        landmarks = new Cell[count];
+        int[] minDist = seed < 0 ? new int[0] : dijkstra(seed);
+
+        // Farthest-point selection: landmark berikutnya = sel dengan
+        // jarak minimum (ke semua landmark sebelumnya) paling besar
+        for (int k = 0; k < count; k++) {
+            int far = seed;
+            for (int id = 0; id < n; id++) {
+                if (minDist[id] != INF && minDist[id] > minDist[far]) far = id;
+            }
+            landmarks[k] = cellAt(far);
+            dist[k] = dijkstra(far);
+            if (k == 0) Arrays.fill(minDist, INF);
+            for (int id = 0; id < n; id++) minDist[id] = Math.min(minDist[id], dist[k][id]);
+        }
+    }
+
+    public Cell[] getLandmarks() {
+        return landmarks;
+    }
+
+    // Heuristik admissible untuk A*: maksimum batas bawah dari semua landmark
+    // (dan Manhattan, karena bobot minimum = 1)
+    public double estimate(Cell v, Cell t) {
+        int vi = v.r * cols + v.c, ti = t.r * cols + t.c;
+        int wv = v.getWeight(), wt = t.getWeight();
+        int best = Math.abs(v.r - t.r) + Math.abs(v.c - t.c);
+        for (int[] d : dist) {
+            int dv = d[vi], dt = d[ti];
+            if (dv == INF || dt == INF) continue; // Landmark tidak terjangkau
+            best = Math.max(best, dt - dv);
+            best = Math.max(best, dv - dt + wt - wv);
+        }
+        return best;
+    }
+
+    // Dijkstra penuh dari satu sel (bucket queue, bobot integer)
+    private int[] dijkstra(int source) {
+        int n = grid.length * cols;
+        int[] d = new int[n];
+        Arrays.fill(d, INF);
+        MinQueue pq = new BucketQueue(n, Cell.COST_WATER);
+        d[source] = 0;
+        pq.insertOrDecrease(source, 0);
+
+        while (!pq.isEmpty()) {
+            int u = pq.poll();
+            int r = u / cols, c = u % cols;
+            relax(d, pq, u, r - 1, c);
+            relax(d, pq, u, r + 1, c);
+            relax(d, pq, u, r, c - 1);
+            relax(d, pq, u, r, c + 1);
+        }
+        return d;
+    }
+
+    private void relax(int[] d, MinQueue pq, int u, int r, int c) {
+        if (r < 0 || r >= grid.length || c < 0 || c >= cols || grid[r][c].type == 0) return;
+        int v = r * cols + c;
+        int newCost = d[u] + grid[r][c].getWeight();
+        if (newCost < d[v]) {
+            d[v] = newCost;
+            pq.insertOrDecrease(v, newCost);
+        }
+    }
+
+    private Cell cellAt(int id) {
+        return grid[id / cols][id % cols];
+    }
+}
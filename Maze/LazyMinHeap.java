@@ -0,0 +1,96 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// LazyMinHeap (Binary Heap dengan Lazy Deletion)
+// Decrease-key = push entry baru. Entry lama tetap di heap dan dibuang
+// saat muncul di puncak (id sudah keluar, atau prioritasnya > best[id]).
+class LazyMinHeap implements MinQueue {
+    private double[] prio = new double[64];
+    private int[] ids = new int[64];
+    private int size;
+    private final double[] best;     // Prioritas terbaru per id
+    private final boolean[] queued;  // true jika id masih menunggu di heap
+
+    public LazyMinHeap(int capacity) {
+        best = new double[capacity];
+        queued = new boolean[capacity];
+    }
+
+    @Override
+    public void insertOrDecrease(int id, double priority) {
+        if (queued[id] && priority >= best[id]) return;
+        best[id] = priority;
+        queued[id] = true;
+        if (size == prio.length) {
+            prio = Arrays.copyOf(prio, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (prio[p] <= priority) break;
+            prio[i] = prio[p];
+            ids[i] = ids[p];
+            i = p;
+        }
+        prio[i] = priority;
+        ids[i] = id;
+    }
+
+    @Override
+    public int poll() {
+        dropStale();
+        int top = ids[0];
+        removeTop();
+        queued[top] = false; // Boleh masuk lagi jika nanti ditemukan jalur lebih murah
+        return top;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        dropStale();
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double minPriority() {
+        dropStale();
+        return prio[0];
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) queued[ids[i]] = false;
+        size = 0;
+    }
+
+    // Buang entry usang yang ada di puncak
+    private void dropStale() {
+        while (size > 0 && (!queued[ids[0]] || prio[0] > best[ids[0]])) removeTop();
+    }
+
+    private void removeTop() {
+        size--;
+        double lastP = prio[size];
+        int lastId = ids[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && prio[child + 1] < prio[child]) child++;
+            if (lastP <= prio[child]) break;
+            prio[i] = prio[child];
+            ids[i] = ids[child];
+            i = child;
+        }
+        prio[i] = lastP;
+        ids[i] = lastId;
+    }
+}
@@ -0,0 +1,31 @@
+package Maze;
+
+import java.nio.ByteBuffer;
+
+
+// MappedGrid (CompactGrid dengan Terrain Off-Heap, 2 bit/sel)
+// Terrain dibaca langsung dari buffer hasil FileChannel.map (lihat MazeFile),
+// jadi maze 10^9 sel (~250 MB) terbuka instan tanpa disalin ke heap.
+// Sel idx ada di byte (idx >> 2), bit ((idx & 3) * 2).
+class MappedGrid extends CompactGrid {
+    private final ByteBuffer data; // Mulai dari byte terrain pertama (setelah header)
+
+    public MappedGrid(int rows, int cols, ByteBuffer data) {
+        super(rows, cols, false);
+        this.data = data;
+    }
+
+    @Override
+    public int getType(int idx) {
+        return (data.get(idx >>> 2) >>> ((idx & 3) << 1)) & 3;
+    }
+
+    // Hanya untuk file yang di-map READ_WRITE
+    @Override
+    public void setType(int idx, int type) {
+        int pos = idx >>> 2;
+        int shift = (idx & 3) << 1;
+        int b = data.get(pos) & ~(3 << shift);
+        data.put(pos, (byte) (b | ((type & 3) << shift)));
+    }
+}
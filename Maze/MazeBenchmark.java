@@ -0,0 +1,169 @@
+package Maze;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+
+// MazeBenchmark (Microbenchmark Suite ala JMH)
+// Proyek ini tidak punya build tool, jadi harness JMH diganti versi kecil
+// dengan pola yang sama: per benchmark ada fase warmup lalu beberapa
+// iterasi pengukuran berdurasi tetap; hasil = rata-rata waktu per operasi
+// +- error 99.9% dan alokasi per operasi (setara gc.alloc.rate.norm dari
+// profiler "gc", diambil dari ThreadMXBean.getThreadAllocatedBytes).
+//
+// Parameter: ukuran grid, campuran terrain, seed. Contoh:
+//   java Maze.MazeBenchmark --sizes 51,201,801 --seeds 1,2 --filter A*
+class MazeBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 10;
+    private static final long ITERATION_NANOS = 200_000_000L; // 200 ms per iterasi
+
+    // Campuran terrain jalan: % Grass, % Mud (sisanya Water)
+    enum Terrain {
+        UNIFORM(100, 0), MIXED(65, 20), SWAMP(30, 35);
+
+        final int grass, mud;
+
+        Terrain(int grass, int mud) {
+            this.grass = grass;
+            this.mud = mud;
+        }
+    }
+
+    // Satu operasi yang diukur
+    interface Op {
+        Object run();
+    }
+
+    static volatile Object sink; // Blackhole: cegah JIT membuang hasil
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = {51, 201, 801};
+        long[] seeds = {42};
+        String filter = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sizes": sizes = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                case "--seeds": seeds = Arrays.stream(args[i + 1].split(",")).mapToLong(Long::parseLong).toArray(); break;
+                case "--filter": filter = args[i + 1]; break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        System.out.printf("%-18s %7s %8s %6s %5s %14s %12s %14s%n",
+            "Benchmark", "size", "terrain", "seed", "Cnt", "Score(us/op)", "Error", "Alloc(B/op)");
+
+        for (int size : sizes) {
+            for (long seed : seeds) {
+                for (Terrain terrain : Terrain.values()) {
+                    Cell[][] grid = maze(size, seed, terrain);
+                    Cell start = grid[1][1];
+                    Cell end = grid[size - 2][size - 2];
+
+                    bench("solveBFS", filter, size, terrain, seed, () -> PathAlgorithms.solveBFS(grid, start, end));
+                    bench("solveDFS", filter, size, terrain, seed, () -> PathAlgorithms.solveDFS(grid, start, end));
+                    bench("solveDijkstra", filter, size, terrain, seed, () -> PathAlgorithms.solveDijkstra(grid, start, end));
+                    bench("solveAStar", filter, size, terrain, seed, () -> PathAlgorithms.solveAStar(grid, start, end));
+
+                    PackedPath path = PathAlgorithms.solveDijkstra(grid, start, end).path;
+                    bench("calculatePathCost", filter, size, terrain, seed, () -> PathAlgorithms.calculatePathCost(grid, path));
+                }
+
+                // Tiap MazeGenerator saja (maze sempurna), dilaporkan juga dalam sel/detik
+                for (MazeGenerator g : MazeGenerator.all()) {
+                    Random genRand = new Random(seed);
+                    String name = "carve" + g.getClass().getSimpleName().replace("MazeGenerator", "");
+                    double usPerOp = bench(name, filter, size, Terrain.UNIFORM, seed, () -> {
+                        byte[] cells = new byte[size * size];
+                        g.carve(cells, size, size, genRand);
+                        return cells;
+                    });
+                    if (usPerOp > 0) {
+                        System.out.printf(Locale.ROOT, "%-18s %7s %,.0f cells/s%n", "", "", size * (double) size / usPerOp * 1e6);
+                    }
+                }
+
+                // Pipeline lengkap MazePanel (generator default + braiding + bobot, tanpa HPA*/ALT/LPA*)
+                MazePanel panel = new MazePanel(size, size);
+                Random rand = new Random(seed);
+                bench("generateMaze", filter, size, Terrain.MIXED, seed, () -> {
+                    panel.generateTerrain(rand);
+                    return panel;
+                });
+            }
+        }
+    }
+
+    // Maze Eller (seeded, ukuran bebas) dengan bobot sesuai campuran terrain
+    static Cell[][] maze(int size, long seed, Terrain terrain) throws IOException {
+        return maze(size, size, seed, terrain);
+    }
+
+    static Cell[][] maze(int rows, int cols, long seed, Terrain terrain) throws IOException {
+        Random rand = new Random(seed);
+        RowSink.ToCells sink = new RowSink.ToCells();
+        new EllerMazeGenerator(rows, cols, rand, false).generate(sink);
+        Cell[][] grid = sink.getGrid();
+        for (Cell[] row : grid) {
+            for (Cell c : row) {
+                if (c.type == 0) continue;
+                int chance = rand.nextInt(100);
+                c.type = chance < terrain.grass ? 1 : chance < terrain.grass + terrain.mud ? 2 : 3;
+            }
+        }
+        grid[1][1].type = 1;
+        grid[rows - 2][cols - 2].type = 1;
+        return grid;
+    }
+
+    // Mengembalikan skor rata-rata (us/op), atau -1 jika tidak lolos filter
+    private static double bench(String name, String filter, int size, Terrain terrain, long seed, Op op) {
+        if (filter != null && !name.toLowerCase().contains(filter.toLowerCase())) return -1;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) iteration(op);
+
+        double[] score = new double[MEASURE_ITERATIONS];
+        double alloc = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            double[] it = iteration(op);
+            score[i] = it[0];
+            alloc += it[1];
+        }
+
+        double mean = 0;
+        for (double s : score) mean += s;
+        mean /= score.length;
+        double var = 0;
+        for (double s : score) var += (s - mean) * (s - mean);
+        double sd = Math.sqrt(var / (score.length - 1));
+        // t(0.9995, df=9) = 4.781, sama dengan interval 99.9% yang dicetak JMH
+        double error = 4.781 * sd / Math.sqrt(score.length);
+
+        System.out.printf(Locale.ROOT, "%-18s %7s %8s %6d %5d %14.3f %12s %14.0f%n",
+            name, size + "x" + size, terrain, seed, MEASURE_ITERATIONS, mean,
+            String.format(Locale.ROOT, "+- %.3f", error), alloc / MEASURE_ITERATIONS);
+        return mean;
+    }
+
+    // Satu iterasi: {mikrodetik per op, byte alokasi per op}
+    private static double[] iteration(Op op) {
+        long thread = Thread.currentThread().getId();
+        long measured = 0, allocated = 0, ops = 0;
+        long deadline = System.nanoTime() + ITERATION_NANOS;
+        do {
+            long a0 = THREADS.getThreadAllocatedBytes(thread);
+            long t0 = System.nanoTime();
+            sink = op.run();
+            long t1 = System.nanoTime();
+            allocated += THREADS.getThreadAllocatedBytes(thread) - a0;
+            measured += t1 - t0;
+            ops++;
+        } while (System.nanoTime() < deadline);
+        return new double[]{measured / 1000.0 / ops, (double) allocated / ops};
+    }
+}
@@ -0,0 +1,175 @@
+package Maze;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+
+// MazeFile (Format Biner Maze, 2 bit per Sel)
+// Layout (big-endian):
+//   0  int   MAGIC ("MAZE")
+//   4  int   VERSION
+//   8  int   rows
+//   12 int   cols
+//   16 int   startR, startC, endR, endC
+//   32 long  seed (0 = tidak diketahui)
+//   40 ...   terrain, 4 sel per byte, sel idx di bit ((idx & 3) * 2)
+// Load memakai FileChannel.map sehingga terrain tetap off-heap dan bisa
+// langsung di-solve oleh PathAlgorithms (MappedGrid adalah CompactGrid).
+class MazeFile {
+    private static final int MAGIC = 0x4D415A45; // "MAZE"
+    private static final int VERSION = 1;
+    static final int HEADER_SIZE = 40;
+
+    final MappedGrid grid;
+    final int startR, startC, endR, endC;
+    final long seed;
+
+    private MazeFile(MappedGrid grid, int startR, int startC, int endR, int endC, long seed) {
+        this.grid = grid;
+        this.startR = startR;
+        this.startC = startC;
+        this.endR = endR;
+        this.endC = endC;
+        this.seed = seed;
+    }
+
+    public int startIndex() {
+        return grid.index(startR, startC);
+    }
+
+    public int endIndex() {
+        return grid.index(endR, endC);
+    }
+
+    private static long dataBytes(int rows, int cols) {
+        return ((long) rows * cols + 3) / 4;
+    }
+
+    // ---------------------------------------------
+    // Load (memory-mapped, tanpa salin)
+    // ---------------------------------------------
+    // Header divalidasi dulu (magic, versi, ukuran, panjang payload, start/end
+    // di dalam grid); file rusak = IOException, bukan error saat dipakai nanti
+    public static MazeFile load(File file, boolean writable) throws IOException {
+        StandardOpenOption[] opts = writable
+            ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+            : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel ch = FileChannel.open(file.toPath(), opts)) {
+            if (ch.size() < HEADER_SIZE) throw new IOException("Not a maze file: " + file);
+            ByteBuffer header = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a maze file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) throw new IOException("Unsupported maze file version: " + version);
+            int rows = header.getInt(), cols = header.getInt();
+            int startR = header.getInt(), startC = header.getInt();
+            int endR = header.getInt(), endC = header.getInt();
+            long seed = header.getLong();
+
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Invalid maze size: " + rows + "x" + cols);
+            }
+            long size = dataBytes(rows, cols);
+            if (ch.size() < HEADER_SIZE + size) throw new IOException("Truncated maze file: " + file);
+            if (ch.size() > HEADER_SIZE + size) throw new IOException("Maze file has trailing data: " + file);
+            checkCell("start", startR, startC, rows, cols);
+            checkCell("end", endR, endC, rows, cols);
+
+            // Mapping tetap valid setelah channel ditutup
+            MappedByteBuffer data = ch.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                                           HEADER_SIZE, size);
+            return new MazeFile(new MappedGrid(rows, cols, data), startR, startC, endR, endC, seed);
+        }
+    }
+
+    private static void checkCell(String name, int r, int c, int rows, int cols) throws IOException {
+        if (r < 0 || r >= rows || c < 0 || c >= cols) {
+            throw new IOException("Cell " + name + " (" + r + ", " + c + ") is outside the " + rows + "x" + cols + " maze");
+        }
+    }
+
+    // ---------------------------------------------
+    // Save
+    // ---------------------------------------------
+    public static void save(File file, CompactGrid grid, int startR, int startC, int endR, int endC,
+                            long seed) throws IOException {
+        try (Writer w = new Writer(file, startR, startC, endR, endC, seed)) {
+            byte[] row = new byte[grid.cols];
+            w.begin(grid.rows, grid.cols);
+            for (int r = 0; r < grid.rows; r++) {
+                for (int c = 0; c < grid.cols; c++) row[c] = (byte) grid.getType(grid.index(r, c));
+                w.acceptRow(r, row);
+            }
+            w.end();
+        }
+    }
+
+    public static void save(File file, Cell[][] grid, Cell start, Cell end, long seed) throws IOException {
+        save(file, CompactGrid.fromCells(grid), start.r, start.c, end.r, end.c, seed);
+    }
+
+    // Writer streaming: bisa jadi RowSink untuk EllerMazeGenerator,
+    // jadi maze raksasa langsung ditulis ke disk tanpa grid di heap
+    static class Writer implements RowSink, Closeable {
+        private final File file;
+        private final int startR, startC, endR, endC;
+        private final long seed;
+        private DataOutputStream out;
+        private int cols;
+        private long cellIndex; // Sel ke berapa yang sedang ditulis (lintas baris)
+        private int pending;    // Byte yang sedang diisi (4 sel)
+
+        Writer(File file, int startR, int startC, int endR, int endC, long seed) {
+            this.file = file;
+            this.startR = startR;
+            this.startC = startC;
+            this.endR = endR;
+            this.endC = endC;
+            this.seed = seed;
+        }
+
+        @Override
+        public void begin(int rows, int cols) throws IOException {
+            this.cols = cols;
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows);
+            out.writeInt(cols);
+            out.writeInt(startR);
+            out.writeInt(startC);
+            out.writeInt(endR);
+            out.writeInt(endC);
+            out.writeLong(seed);
+        }
+
+        @Override
+        public void acceptRow(int r, byte[] row) throws IOException {
+            for (int c = 0; c < cols; c++) {
+                int shift = (int) (cellIndex & 3) << 1;
+                pending |= (row[c] & 3) << shift;
+                if ((cellIndex & 3) == 3) {
+                    out.write(pending);
+                    pending = 0;
+                }
+                cellIndex++;
+            }
+        }
+
+        @Override
+        public void end() throws IOException {
+            if ((cellIndex & 3) != 0) out.write(pending); // Sisa byte terakhir
+            pending = 0;
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) out.close();
+        }
+    }
+}
@@ -2,11 +2,14 @@ package Maze;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.util.Locale;
 
 // MazeFinalProject (Main Class & UI)
 public class MazeFinalProject extends JFrame {
 
     private MazePanel mazePanel;
+    private boolean syncingSeek; // Update slider dari engine, bukan dari user
 
     public MazeFinalProject() {
         // Setup dasar JFrame
@@ -18,43 +21,206 @@ public class MazeFinalProject extends JFrame {
 
         // Inisialisasi Panel Maze (Pusat Logika)
         mazePanel = new MazePanel();
-        add(mazePanel, BorderLayout.CENTER);
+        // Viewport: scroll/drag kanan untuk pan, Ctrl + scroll untuk zoom
+        JScrollPane scroll = new JScrollPane(mazePanel);
+        scroll.getViewport().setBackground(Color.BLACK);
+        scroll.getHorizontalScrollBar().setUnitIncrement(32);
+        scroll.getVerticalScrollBar().setUnitIncrement(32);
+        scroll.setBorder(null);
+        add(scroll, BorderLayout.CENTER);
 
-        // Setup Panel Kontrol (Bagian Bawah)
+        // Setup Panel Kontrol (Bagian Bawah): satu baris per grup agar muat di frame 1000 px
         JPanel controlPanel = new JPanel();
-        controlPanel.setLayout(new FlowLayout());
+        controlPanel.setLayout(new GridLayout(0, 1));
         controlPanel.setBackground(new Color(30, 30, 30)); // Dark Theme Background
 
         // Tombol-tombol kontrol
         JButton btnGenerate = createStyledButton("New Maze");
-        JButton btnBFS = createStyledButton("Solve BFS");
-        JButton btnDFS = createStyledButton("Solve DFS");
-        JButton btnDijkstra = createStyledButton("Solve Dijkstra");
-        JButton btnAStar = createStyledButton("Solve A*");
+        JButton btnBFS = createStyledButton("BFS");
+        JButton btnDFS = createStyledButton("DFS");
+        JButton btnDijkstra = createStyledButton("Dijkstra");
+        JButton btnDial = createStyledButton("Dial");
+        JButton btnAStar = createStyledButton("A*");
+        JButton btnJPS = createStyledButton("JPS");
+        JButton btnBiDijkstra = createStyledButton("Bi-Dijkstra");
+        JButton btnBiAStar = createStyledButton("Bi-A*");
+        JButton btnHPA = createStyledButton("HPA*");
+        JButton btnALT = createStyledButton("A*-ALT");
         JButton btnCompare = createStyledButton("Compare All");
         JButton btnReset = createStyledButton("Reset Path");
+        JButton btnSave = createStyledButton("Save Maze");
+        JButton btnLoad = createStyledButton("Load Maze");
+
+        // Checkbox terrain berbobot (matikan untuk maze seragam / JPS)
+        JCheckBox chkWeighted = new JCheckBox("Weighted Terrain", true);
+        chkWeighted.setBackground(new Color(30, 30, 30));
+        chkWeighted.setForeground(Color.WHITE);
+        chkWeighted.setFocusPainted(false);
+
+        // Seed maze saat ini; Enter = generate ulang dari seed yang diketik
+        JTextField txtSeed = new JTextField(10);
+        txtSeed.setToolTipText("Maze seed - press Enter to regenerate this maze");
+        txtSeed.setText(Long.toString(mazePanel.getSeed()));
+
+        // Pilihan generator; label = kecepatan generate terakhir (sel/detik)
+        JComboBox<String> cmbGenerator = new JComboBox<>();
+        for (MazeGenerator g : MazeGenerator.all()) cmbGenerator.addItem(g.getName());
+        cmbGenerator.setFocusable(false);
+        JLabel lblGeneration = createLabel(mazePanel.getGenerationStats());
+        mazePanel.setOnSeedChange(() -> {
+            txtSeed.setText(mazePanel.getSeed() == 0 ? "" : Long.toString(mazePanel.getSeed()));
+            lblGeneration.setText(mazePanel.getGenerationStats() == null ? "" : mazePanel.getGenerationStats());
+        });
+
+        // Jumlah maze ber-seed tambahan untuk Compare All (0 = maze saat ini saja)
+        JSpinner spnSeeds = new JSpinner(new SpinnerNumberModel(0, 0, 16, 1));
+        spnSeeds.setToolTipText("Extra seeded mazes measured by Compare All");
 
         // Menambahkan Action Listener (Event Handling)
         btnGenerate.addActionListener(e -> mazePanel.generateMaze());
         btnBFS.addActionListener(e -> mazePanel.startSolving("BFS"));
         btnDFS.addActionListener(e -> mazePanel.startSolving("DFS"));
         btnDijkstra.addActionListener(e -> mazePanel.startSolving("Dijkstra"));
+        btnDial.addActionListener(e -> mazePanel.startSolving("Dial"));
         btnAStar.addActionListener(e -> mazePanel.startSolving("A*"));
-        btnCompare.addActionListener(e -> mazePanel.compareAlgorithms());
+        btnJPS.addActionListener(e -> mazePanel.startSolving("JPS"));
+        btnBiDijkstra.addActionListener(e -> mazePanel.startSolving("Bi-Dijkstra"));
+        btnBiAStar.addActionListener(e -> mazePanel.startSolving("Bi-A*"));
+        btnHPA.addActionListener(e -> mazePanel.startSolving("HPA*"));
+        btnALT.addActionListener(e -> mazePanel.startSolving("A*-ALT"));
+        btnCompare.addActionListener(e -> mazePanel.compareAlgorithms((Integer) spnSeeds.getValue()));
         btnReset.addActionListener(e -> mazePanel.resetPath());
+        btnSave.addActionListener(e -> saveMaze());
+        btnLoad.addActionListener(e -> loadMaze());
+        txtSeed.addActionListener(e -> {
+            long seed;
+            try {
+                seed = Long.parseLong(txtSeed.getText().trim());
+            } catch (NumberFormatException ex) {
+                seed = 0;
+            }
+            if (seed == 0) JOptionPane.showMessageDialog(this, "Seed must be a non-zero integer.");
+            else mazePanel.generateMaze(seed);
+        });
+        chkWeighted.addActionListener(e -> {
+            mazePanel.setWeightedTerrain(chkWeighted.isSelected());
+            // Seed sama = tata letak sama, hanya bobot terrain yang berubah
+            if (mazePanel.getSeed() != 0) mazePanel.generateMaze(mazePanel.getSeed());
+            else mazePanel.generateMaze();
+        });
+        cmbGenerator.addActionListener(e -> {
+            mazePanel.setGenerator(MazeGenerator.byName((String) cmbGenerator.getSelectedItem()));
+            // Seed sama, generator beda: bandingkan bentuk & kecepatan langsung
+            if (mazePanel.getSeed() != 0) mazePanel.generateMaze(mazePanel.getSeed());
+            else mazePanel.generateMaze();
+        });
+
+        // Menambahkan tombol ke panel, dikelompokkan per baris
+        controlPanel.add(createRow("Maze", btnGenerate, createLabel("Seed"), txtSeed, cmbGenerator,
+            chkWeighted, btnSave, btnLoad));
+        controlPanel.add(createRow("Solve", btnBFS, btnDFS, btnDijkstra, btnDial, btnAStar, btnJPS,
+            btnBiDijkstra, btnBiAStar, btnHPA, btnALT, btnReset));
+        controlPanel.add(createRow("Benchmark", btnCompare, createLabel("+ Seeds"), spnSeeds,
+            new JSeparator(SwingConstants.VERTICAL), lblGeneration));
+
+        JPanel south = new JPanel(new BorderLayout());
+        south.add(controlPanel, BorderLayout.CENTER);
+        south.add(createPlaybackPanel(), BorderLayout.SOUTH);
+        add(south, BorderLayout.SOUTH);
+    }
+
+    // Kontrol animasi: pause, step, seek, speed, skip ke hasil
+    private JPanel createPlaybackPanel() {
+        PlaybackEngine playback = mazePanel.getPlayback();
+        JPanel panel = new JPanel(new FlowLayout());
+        panel.setBackground(new Color(30, 30, 30));
+
+        JButton btnPause = createStyledButton("Pause");
+        JButton btnStep = createStyledButton("Step");
+        JButton btnSkip = createStyledButton("Skip to Result");
+        JSlider seek = new JSlider(0, 0, 0);
+        JLabel position = createLabel("0 / 0");
+
+        // Speed skala log: 10 .. 1.000.000 sel/detik
+        JSlider speed = new JSlider(10, 60, (int) Math.round(10 * Math.log10(PlaybackEngine.DEFAULT_RATE)));
+        JLabel speedLabel = createLabel("");
+        Runnable updateSpeed = () -> {
+            playback.setRate(Math.pow(10, speed.getValue() / 10.0));
+            speedLabel.setText(String.format(Locale.ROOT, "%,.0f cells/s", playback.getRate()));
+        };
+        updateSpeed.run();
+
+        btnPause.addActionListener(e -> playback.setPaused(!playback.isPaused()));
+        btnStep.addActionListener(e -> playback.step(1));
+        btnSkip.addActionListener(e -> mazePanel.skipPlayback());
+        speed.addChangeListener(e -> updateSpeed.run());
+        seek.addChangeListener(e -> {
+            if (!syncingSeek) playback.seek(seek.getValue());
+        });
+        playback.setOnChange(() -> {
+            syncingSeek = true;
+            seek.setMaximum(playback.getTotal());
+            seek.setMinimum(playback.getSeekStart()); // Riwayat seek mundur terbatas
+            seek.setValue(playback.getPosition());
+            syncingSeek = false;
+            position.setText(String.format(Locale.ROOT, "%,d / %,d", playback.getPosition(), playback.getTotal()));
+            btnPause.setText(playback.isPaused() ? "Resume" : "Pause");
+        });
+
+        for (JSlider slider : new JSlider[]{seek, speed}) {
+            slider.setBackground(new Color(30, 30, 30));
+            slider.setFocusable(false);
+        }
+        seek.setPreferredSize(new Dimension(320, seek.getPreferredSize().height));
+
+        panel.add(btnPause);
+        panel.add(btnStep);
+        panel.add(btnSkip);
+        panel.add(seek);
+        panel.add(position);
+        panel.add(new JSeparator(SwingConstants.VERTICAL));
+        panel.add(createLabel("Speed"));
+        panel.add(speed);
+        panel.add(speedLabel);
+        return panel;
+    }
+
+    // Satu baris kontrol: judul grup lalu komponennya
+    private JPanel createRow(String title, Component... components) {
+        JPanel row = new JPanel(new FlowLayout());
+        row.setBackground(new Color(30, 30, 30));
+        JLabel label = createLabel(title + ":");
+        label.setFont(label.getFont().deriveFont(Font.BOLD));
+        row.add(label);
+        for (Component c : components) row.add(c);
+        return row;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(Color.WHITE);
+        return label;
+    }
+
+    // Simpan / buka maze lewat file chooser
+    private void saveMaze() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            mazePanel.saveMaze(chooser.getSelectedFile());
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not save the maze:\n" + ex.getMessage());
+        }
+    }
 
-        // Menambahkan tombol ke panel
-        controlPanel.add(btnGenerate);
-        controlPanel.add(btnReset);
-        controlPanel.add(new JSeparator(SwingConstants.VERTICAL));
-        controlPanel.add(btnBFS);
-        controlPanel.add(btnDFS);
-        controlPanel.add(btnDijkstra);
-        controlPanel.add(btnAStar);
-        controlPanel.add(new JSeparator(SwingConstants.VERTICAL));
-        controlPanel.add(btnCompare);
-
-        add(controlPanel, BorderLayout.SOUTH);
+    private void loadMaze() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            mazePanel.loadMaze(chooser.getSelectedFile());
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not open the maze:\n" + ex.getMessage());
+        }
     }
 
     // Helper untuk membuat tombol dengan tema gelap
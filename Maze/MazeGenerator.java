@@ -0,0 +1,38 @@
+package Maze;
+
+import java.util.Random;
+
+
+// MazeGenerator (Engine Pembuat Maze Sempurna)
+// Layout sama untuk semua generator (dan EllerMazeGenerator): sel di
+// koordinat ganjil, tembok di genap, border luar selalu tembok.
+// Generator hanya mengukir maze sempurna ke array tipe row-major
+// (id = r * cols + c, 0 = tembok, 1 = jalan); braiding dan bobot terrain
+// tetap dikerjakan MazePanel.generateTerrain, jadi bisa dipakai generator mana pun.
+// Semua keacakan dari 'rand' -> hasil deterministik per seed.
+interface MazeGenerator {
+    String getName();
+
+    // cells awalnya semua 0; rows & cols ganjil dan >= 3
+    void carve(byte[] cells, int rows, int cols, Random rand);
+
+    // Urutan = urutan pilihan di UI; yang pertama adalah default
+    static MazeGenerator[] all() {
+        return new MazeGenerator[]{
+            new PrimMazeGenerator(), new KruskalMazeGenerator(),
+            new WilsonMazeGenerator(), new DivisionMazeGenerator()
+        };
+    }
+
+    static MazeGenerator byName(String name) {
+        for (MazeGenerator g : all()) {
+            if (g.getName().equals(name)) return g;
+        }
+        throw new IllegalArgumentException("Unknown maze generator: " + name);
+    }
+
+    // id fisik dari sel logis (i, j) pada grid m = (cols - 1) / 2 sel per baris
+    static int cellId(int i, int j, int cols) {
+        return (2 * i + 1) * cols + 2 * j + 1;
+    }
+}
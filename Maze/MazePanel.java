@@ -1,33 +1,92 @@
 package Maze;
 
 import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
 import java.util.List;
-import javax.swing.Timer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 
 // MazePanel (High Resolution & Dense Maze)
 class MazePanel extends JPanel {
-    private final int ROWS = 35; // Harus Ganjil
-    private final int COLS = 45; // Harus Ganjil
-    private final int CELL_SIZE = 20; // Ukuran disesuaikan
+    private int ROWS = 35; // Harus Ganjil (berubah jika maze di-load dari file)
+    private int COLS = 45; // Harus Ganjil
+    static final int HPA_CLUSTER_SIZE = 10; // Ukuran cluster HPA* (juga dipakai CompareBenchmark)
+    static final int ALT_LANDMARKS = 6;     // Jumlah landmark ALT
+    private static final String CURRENT_MAZE = "current"; // Label maze yang sedang tampil di tabel Compare All
+    private static final int RESULT_CACHE_SIZE = 64;      // Hasil solve yang disimpan (LRU)
+    private static final int COMPARE_CACHE_SIZE = 8;      // Tabel Compare All yang disimpan (LRU)
+    private static final int MAX_DISPLAY_CELLS = 4000000; // Batas Cell[][]; lebih besar = hanya ditampilkan
+    private static final int EVENT_BUFFER_SIZE = 1 << 16; // Event ekspansi yang boleh tertunda
+    private static final double SOLVE_PLAYBACK_SECONDS = 20;  // Batas durasi animasi satu solve
+    private static final double COMPARE_PLAYBACK_SECONDS = 2; // Per algoritma saat Compare All
+    private static final int DIRTY_CELLS_PER_FRAME = 256;     // Lebih dari ini: satu repaint (blit tile + overlay)
+    private static final int REPLAN_DIRTY_CELLS = 4096;       // Sel replan lebih dari ini: satu repaint
+    private static final List<String> LARGE_MAZE_ALGOS = Arrays.asList("BFS", "DFS", "Dijkstra", "A*"); // Ada versi CompactGrid
     
     private Cell[][] grid;
     private Cell startNode, endNode;
+    private HierarchicalPathfinder hpa; // Abstraksi HPA*, dibangun ulang tiap generateMaze
+    private LandmarkHeuristic alt;      // Tabel jarak landmark untuk A*-ALT (null = perlu dibangun ulang)
+    private LPAStar planner;            // Planner inkremental untuk edit terrain live
+    private ComponentIndex components;  // Label komponen: cek start-end terjangkau tanpa mencari
+    private final MazeRenderer renderer = new MazeRenderer(); // Tile cache + zoom
+    private CompactGrid largeMaze; // Maze > MAX_DISPLAY_CELLS (off-heap), tanpa Cell[][]: tanpa edit
+    private Point panAnchor;       // Posisi mouse saat drag kanan (pan)
     
     // Variabel animasi
-    private Timer timer;
-    private List<Cell> visualizationQueue;
-    private List<Cell> finalPath;
-    private int animIndex = 0;
-    private boolean isAnimating = false;
+    private final PlaybackEngine playback = new PlaybackEngine(new PlaybackEngine.Sink() {
+        @Override
+        public void show(int[] events, int from, int to) {
+            showEvents(events, from, to, true);
+        }
+
+        @Override
+        public void hide(int[] events, int from, int to) {
+            showEvents(events, from, to, false);
+        }
+    });
+    private PackedPath finalPath;
+    private String playbackLabel;     // Nama algoritma yang sedang diputar (Compare All)
+    private boolean skipRequested;    // Skip saat Compare All: lewati semua algoritma
+    private SolveTask solveTask;      // Solve / Compare All yang sedang jalan di background
+    private String solverStatus;      // Progress solver (ekspansi & frontier)
+    private boolean solveOverlay;     // Ada tanda visited dari animasi solve (bukan dari replan)
+
+    // Sel yang ditandai replan LPA* terakhir: edit berikutnya hanya menghapus ini
+    private int[] replanMarked = new int[64];
+    private int replanMarkedCount;
+
+    // false = semua jalan Grass (bobot seragam), untuk benchmark JPS vs A*
+    private boolean weightedTerrain = true;
+
+    // Seed maze saat ini (0 = tidak diketahui: maze di-load tanpa seed / sudah diedit)
+    private long seed;
+    private Runnable onSeedChange = () -> { };
+
+    // Generator maze sempurna (pilihan di UI) dan laporan generate terakhir
+    private MazeGenerator generator = MazeGenerator.all()[0];
+    private String generationStats;
+
+    // Cache hasil: key = fingerprint terrain + endpoint + algoritma (lihat SolveCache)
+    private long fingerprint;
+    private final SolveCache<PathAlgorithms.Result> results = new SolveCache<>(RESULT_CACHE_SIZE);
+    private final SolveCache<List<CompareBenchmark.Row>> comparisons = new SolveCache<>(COMPARE_CACHE_SIZE);
 
     public MazePanel() {
+        this(35, 45);
+    }
+
+    // Ukuran bebas (ganjil), dipakai juga oleh MazeBenchmark
+    MazePanel(int rows, int cols) {
+        this.ROWS = rows;
+        this.COLS = cols;
         this.setBackground(Color.BLACK);
-        // Set ukuran panel agar pas dengan grid
-        this.setPreferredSize(new Dimension(COLS * CELL_SIZE, ROWS * CELL_SIZE));
         
         grid = new Cell[ROWS][COLS];
         // Inisialisasi awal
@@ -37,75 +96,168 @@ class MazePanel extends JPanel {
             }
         }
         generateMaze(); 
+
+        // Klik kiri: edit terrain (Wall -> Grass -> Mud -> Water -> Wall)
+        // Drag kanan: pan, Ctrl + scroll: zoom di sekitar kursor
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (SwingUtilities.isRightMouseButton(e)) panAnchor = e.getLocationOnScreen();
+                else editCell(renderer.rowAt(e.getY()), renderer.colAt(e.getX()));
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (panAnchor == null || !(getParent() instanceof JViewport)) return;
+                JViewport viewport = (JViewport) getParent();
+                Point now = e.getLocationOnScreen();
+                Point view = viewport.getViewPosition();
+                view.translate(panAnchor.x - now.x, panAnchor.y - now.y);
+                scrollRectToVisible(new Rectangle(view, viewport.getExtentSize()));
+                panAnchor = now;
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                panAnchor = null;
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown()) {
+                    zoom(-e.getWheelRotation(), e.getPoint());
+                } else {
+                    // Scroll biasa diteruskan ke JScrollPane
+                    Container scroll = SwingUtilities.getAncestorOfClass(JScrollPane.class, MazePanel.this);
+                    if (scroll != null) scroll.dispatchEvent(SwingUtilities.convertMouseEvent(MazePanel.this, e, scroll));
+                }
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
     }
 
     // ---------------------------------------------
-    // 1. Generate Maze (Dense Prim's + Braiding)
+    // Zoom (level diskrit, lihat MazeRenderer.ZOOM_LEVELS)
     // ---------------------------------------------
-    public void generateMaze() {
-        if (isAnimating) return;
+    public void zoom(int steps, Point anchor) {
+        int before = renderer.getZoom();
+        renderer.setZoom(before + steps);
+        if (renderer.getZoom() == before) return;
+
+        // Sel di bawah anchor tetap di posisi layar yang sama
+        double ratio = renderer.scale() / MazeRenderer.ZOOM_LEVELS[before];
+        Rectangle visible = getVisibleRect();
+        updateSize();
+        if (getParent() instanceof JViewport) {
+            JViewport viewport = (JViewport) getParent();
+            Dimension extent = viewport.getExtentSize();
+            int x = (int) (anchor.x * ratio) - (anchor.x - visible.x);
+            int y = (int) (anchor.y * ratio) - (anchor.y - visible.y);
+            x = Math.max(0, Math.min(x, getWidth() - extent.width));
+            y = Math.max(0, Math.min(y, getHeight() - extent.height));
+            viewport.setViewPosition(new Point(x, y));
+        }
+        repaint();
+    }
 
-        // 1. Reset: Jadikan semua TEMBOK (0)
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                grid[r][c] = new Cell(r, c, 0);
-            }
+    // Zoom terbesar yang memuat seluruh grid di area yang terlihat
+    private void zoomToFit() {
+        Rectangle visible = getVisibleRect();
+        if (visible.isEmpty()) visible.setSize(getParent() != null ? getParent().getSize() : getPreferredSize());
+        renderer.setZoom(MazeRenderer.DEFAULT_ZOOM);
+        while (renderer.getZoom() > 0) {
+            Dimension size = renderer.preferredSize();
+            if (size.width <= visible.width && size.height <= visible.height) break;
+            renderer.setZoom(renderer.getZoom() - 1);
         }
+        updateSize();
+    }
 
-        // 2. Prim's Algorithm (Hasilkan Maze Sempurna dulu)
-        // Mulai dari koordinat ganjil (1,1)
-        int startR = 1, startC = 1;
-        grid[startR][startC].type = 1; 
+    // Ukuran panel = grid pada zoom saat ini (scroll pane mengurus sisanya)
+    private void updateSize() {
+        Dimension size = renderer.preferredSize();
+        setPreferredSize(size);
+        setSize(size);
+        revalidate();
+    }
 
-        ArrayList<Cell> walls = new ArrayList<>();
-        addWalls(startR, startC, walls);
+    // ---------------------------------------------
+    // 1. Generate Maze (MazeGenerator + Braiding)
+    // ---------------------------------------------
+    // Maze baru dengan seed acak (seed ditampilkan di UI, bisa dipakai ulang)
+    public void generateMaze() {
+        generateMaze(1 + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE - 1));
+    }
 
-        Random rand = new Random();
+    // Maze yang sama persis untuk seed, ukuran & pilihan terrain yang sama
+    public void generateMaze(long seed) {
+        resetPath(); // Batalkan solve / animasi yang masih jalan
+        if (largeMaze != null) {
+            // Keluar dari mode lihat-saja: kembali ke ukuran default
+            largeMaze = null;
+            ROWS = 35;
+            COLS = 45;
+            SearchContext.clearPool();
+            grid = new Cell[ROWS][COLS];
+            renderer.setZoom(MazeRenderer.DEFAULT_ZOOM);
+        }
 
-        while (!walls.isEmpty()) {
-            // Ambil tembok acak
-            int idx = rand.nextInt(walls.size());
-            Cell wall = walls.remove(idx);
-            
-            // Cek tetangga (jarak 2)
-            List<Cell> neighbors = getNeighbors(wall, 2);
-            List<Cell> visitedNeighbors = new ArrayList<>();
-            for(Cell n : neighbors) {
-                if(n.type != 0) visitedNeighbors.add(n);
-            }
+        generateTerrain(new Random(seed));
+        setSeed(seed);
+
+        rebuildIndexes();
+        resetPath();
+        repaint();
+    }
+
+    // Isi grid (generator + braiding + bobot) tanpa membangun index/tampilan.
+    // Semua keacakan dari 'rand', jadi hasilnya deterministik per seed.
+    void generateTerrain(Random rand) {
+        long nanos = generateTerrain(grid, generator, weightedTerrain, rand);
+        int n = ROWS * COLS;
+        generationStats = String.format("%s: %,d cells in %.2f ms (%,.0f cells/s)",
+            generator.getName(), n, nanos / 1e6, n / (Math.max(1, nanos) / 1e9));
+        startNode = grid[1][1];
+        endNode = grid[ROWS - 2][COLS - 2];
+    }
 
-            // Jika tembok ini memisahkan area visited dan unvisited
-            if (visitedNeighbors.size() == 1) {
-                wall.type = 1; // Jadi Jalan
-                
-                Cell n = visitedNeighbors.get(0);
-                // Buka tembok di antaranya
-                int midR = (wall.r + n.r) / 2;
-                int midC = (wall.c + n.c) / 2;
-                grid[midR][midC].type = 1;
-
-                addWalls(wall.r, wall.c, walls);
+    // Isi grid mana pun (juga maze ber-seed tambahan Compare All, di luar EDT);
+    // mengembalikan waktu carve generator saja (ns). Start (1,1), end pojok kanan bawah.
+    static long generateTerrain(Cell[][] grid, MazeGenerator generator, boolean weighted, Random rand) {
+        int rows = grid.length, cols = grid[0].length;
+
+        // 1-2. Maze sempurna dari generator terpilih (array tipe primitif),
+        // lalu jadi Cell baru (state visualisasi lama dibuang)
+        byte[] cells = new byte[rows * cols];
+        long t0 = System.nanoTime();
+        generator.carve(cells, rows, cols, rand);
+        long nanos = System.nanoTime() - t0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                grid[r][c] = new Cell(r, c, cells[r * cols + c]);
             }
         }
 
         // 3. Set Start & End (Pojok ke Pojok)
-        startNode = grid[1][1];
-        endNode = grid[ROWS - 2][COLS - 2];
-        startNode.type = 1; 
-        endNode.type = 1;
+        Cell start = grid[1][1];
+        Cell end = grid[rows - 2][cols - 2];
+        start.type = 1; 
+        end.type = 1;
 
         // 4. Create Multiple Paths (Braiding)
         // Sekarang kita lubangi maze yang sudah jadi agar ada banyak jalan
         
         // Buat jalan pintas Horizontal & Vertikal acak (looping)
         // Ini mencegah maze hanya punya 1 solusi
-        int loops = (ROWS * COLS) / 10; // Jumlah loop
+        int loops = (rows * cols) / 10; // Jumlah loop
         for(int i=0; i < loops; i++) {
-            int r = rand.nextInt(ROWS-2) + 1;
-            int c = rand.nextInt(COLS-2) + 1;
+            int r = rand.nextInt(rows-2) + 1;
+            int c = rand.nextInt(cols-2) + 1;
             if(grid[r][c].type == 0) {
                 // Pastikan tidak membuka border luar
-                if(r > 0 && r < ROWS-1 && c > 0 && c < COLS-1) {
+                if(r > 0 && r < rows-1 && c > 0 && c < cols-1) {
                    // Cek agar tidak membuat area terbuka terlalu besar (opsional)
                    grid[r][c].type = 1; 
                 }
@@ -114,179 +266,594 @@ class MazePanel extends JPanel {
 
         // Paksa Jalur Alternatif Panjang (Variabel Path 1 & 2)
         // Kita hancurkan tembok sepanjang garis tertentu
-        carvePath(ROWS/4);       // Jalur Atas
-        carvePath(ROWS*3/4);     // Jalur Bawah
-
-        // 5. Assign Weights (Grass, Mud, Water)
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                if (grid[r][c].type != 0) {
-                    int chance = rand.nextInt(100);
-                    if (chance < 65) grid[r][c].type = 1;      // Grass
-                    else if (chance < 85) grid[r][c].type = 2; // Mud
-                    else grid[r][c].type = 3;                  // Water
+        carvePath(grid, rows/4, rand);       // Jalur Atas
+        carvePath(grid, rows*3/4, rand);     // Jalur Bawah
+
+        // 5. Assign Weights (Grass, Mud, Water) - dilewati jika terrain seragam
+        if (weighted) {
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (grid[r][c].type != 0) {
+                        int chance = rand.nextInt(100);
+                        if (chance < 65) grid[r][c].type = 1;      // Grass
+                        else if (chance < 85) grid[r][c].type = 2; // Mud
+                        else grid[r][c].type = 3;                  // Water
+                    }
                 }
             }
         }
         
         // Pastikan Start/End bersih
-        startNode.type = 1;
-        endNode.type = 1;
+        start.type = 1;
+        end.type = 1;
+        return nanos;
+    }
+
+    // Struktur yang dibangun sekali setelah terrain final (generate / load)
+    private void rebuildIndexes() {
+        renderer.setSource(grid);
+        updateSize();
+        fingerprint = SolveCache.fingerprint(grid);
+        components = new ComponentIndex(grid);
+
+        // Abstraksi HPA* dan tabel landmark ALT
+        hpa = new HierarchicalPathfinder(grid, HPA_CLUSTER_SIZE);
+        alt = new LandmarkHeuristic(grid, ALT_LANDMARKS);
+
+        // Planner inkremental: solve penuh sekali, edit berikutnya hanya diperbaiki
+        planner = new LPAStar(grid, startNode, endNode);
+        planner.computeShortestPath();
+    }
 
+    // ---------------------------------------------
+    // Save / Load (format biner 2 bit/sel, lihat MazeFile)
+    // ---------------------------------------------
+    public void saveMaze(File file) throws IOException {
+        if (largeMaze != null) {
+            MazeFile.save(file, largeMaze, startNode.r, startNode.c, endNode.r, endNode.c, seed);
+        } else {
+            MazeFile.save(file, grid, startNode, endNode, seed);
+        }
+    }
+
+    public void loadMaze(File file) throws IOException {
+        MazeFile maze = MazeFile.load(file, false);
+        resetPath();
+        if (maze.grid.rows != ROWS || maze.grid.cols != COLS) SearchContext.clearPool(); // Context ukuran lama
+        ROWS = maze.grid.rows;
+        COLS = maze.grid.cols;
+        generationStats = null;
+        setSeed(maze.seed);
+
+        if ((long) ROWS * COLS > MAX_DISPLAY_CELLS) {
+            // Terlalu besar untuk Cell[][]: tile dirender langsung dari file yang di-map.
+            // Edit tidak tersedia; BFS/DFS/Dijkstra/A* jalan di CompactGrid (solveLargeMaze).
+            largeMaze = maze.grid;
+            grid = null;
+            hpa = null;
+            alt = null;
+            planner = null;
+            components = null;
+            startNode = new Cell(maze.startR, maze.startC, 1);
+            endNode = new Cell(maze.endR, maze.endC, 1);
+            renderer.setSource(largeMaze);
+            zoomToFit();
+            repaint();
+            return;
+        }
+
+        largeMaze = null;
+        grid = maze.grid.toCells();
+        startNode = grid[maze.startR][maze.startC];
+        endNode = grid[maze.endR][maze.endC];
+
+        rebuildIndexes();
         resetPath();
         repaint();
     }
 
+    public void setWeightedTerrain(boolean weightedTerrain) {
+        this.weightedTerrain = weightedTerrain;
+    }
+
+    void setGenerator(MazeGenerator generator) {
+        this.generator = generator;
+    }
+
+    // "Nama: sel, waktu, sel/detik" dari generate terakhir (null jika maze di-load)
+    String getGenerationStats() {
+        return generationStats;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    // Dipanggil saat seed berubah (generate / load / edit), untuk field seed di UI
+    void setOnSeedChange(Runnable onSeedChange) {
+        this.onSeedChange = onSeedChange;
+    }
+
+    private void setSeed(long seed) {
+        this.seed = seed;
+        onSeedChange.run();
+    }
+
+    String getCacheStats() {
+        return "Solve cache: " + results + "\nCompare cache: " + comparisons;
+    }
+
     // Fungsi bikin jalan tembus horizontal
-    private void carvePath(int row) {
+    private static void carvePath(Cell[][] grid, int row, Random rand) {
+        int rows = grid.length, cols = grid[0].length;
         // Cari baris terdekat yang ganjil (biar align sama grid)
         if(row % 2 == 0) row++; 
-        Random rand = new Random();
         
         // Buat jalan dari kiri ke kanan dengan sedikit acak naik turun
-        for(int c = 2; c < COLS-2; c++) {
+        for(int c = 2; c < cols-2; c++) {
             grid[row][c].type = 1;
             // Kadang-kadang buka atas/bawahnya biar lebar dikit atau zigzag
             if(rand.nextInt(10) < 2) {
-               if(row + 1 < ROWS-1) grid[row+1][c].type = 1;
+               if(row + 1 < rows-1) grid[row+1][c].type = 1;
             }
         }
     }
 
-    private void addWalls(int r, int c, ArrayList<Cell> walls) {
-        int[] dr = {-2, 2, 0, 0};
-        int[] dc = {0, 0, -2, 2};
-        for (int i = 0; i < 4; i++) {
-            int nr = r + dr[i];
-            int nc = c + dc[i];
-            // Pastikan tembok valid dan belum jadi jalan
-            if (isValid(nr, nc) && grid[nr][nc].type == 0) {
-                walls.add(grid[nr][nc]);
-            }
-        }
-    }
 
     // ---------------------------------------------
     // Visualisasi & Pathfinding Control
     // ---------------------------------------------
     public void startSolving(String algo) {
-        if (isAnimating) return;
+        if (isBusy()) return;
+        if (largeMaze != null) {
+            solveLargeMaze(algo);
+            return;
+        }
         resetPath();
-        
-        PathAlgorithms.Result result = null;
 
-        switch (algo) {
-            case "BFS": result = PathAlgorithms.solveBFS(grid, startNode, endNode); break;
-            case "DFS": result = PathAlgorithms.solveDFS(grid, startNode, endNode); break;
-            case "Dijkstra": result = PathAlgorithms.solveDijkstra(grid, startNode, endNode); break;
-            case "A*": result = PathAlgorithms.solveAStar(grid, startNode, endNode); break;
-        }
-
-        if (result != null) {
-            this.visualizationQueue = result.visitedOrder;
-            // SIMPAN HASIL, JANGAN DIGAMBAR DULU
-            List<Cell> calculatedPath = result.path; 
-            
-            animIndex = 0;
-            isAnimating = true;
-            
-            // Timer sedikit dipercepat (delay 3ms) karena grid makin banyak
-            timer = new Timer(3, new ActionListener() { 
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    // LOOP untuk speed up (gambar 3 sel per frame)
-                    for(int k=0; k<3; k++) {
-                        if (animIndex < visualizationQueue.size()) {
-                            Cell c = visualizationQueue.get(animIndex);
-                            c.visited = true; 
-                            animIndex++;
-                        } else {
-                            break;
-                        }
-                    }
-                    
-                    if(animIndex % 10 == 0) SoundUtils.playStepSound();
-                    repaint();
-
-                    if (animIndex >= visualizationQueue.size()) {
-                        ((Timer)e.getSource()).stop();
-                        isAnimating = false;
-                        
-                        // BARU MUNCULKAN GARIS KUNING
-                        finalPath = calculatedPath; 
-                        
-                        repaint(); 
-                        SoundUtils.playFinishSound();
-                        
-                        double cost = PathAlgorithms.calculatePathCost(finalPath);
-                        JOptionPane.showMessageDialog(null, 
-                            algo + " Finished!\nPath Nodes: " + finalPath.size() + 
-                            "\nTotal Weight Cost: " + cost);
-                    }
+        // End di komponen lain: jawab langsung, tanpa solver membanjiri region start
+        if (!components.connected(startNode, endNode)) {
+            showUnreachable();
+            return;
+        }
+
+        // Query yang sama pada maze yang sama: hasil langsung dari cache, tanpa animasi
+        int s = startNode.r * COLS + startNode.c, t = endNode.r * COLS + endNode.c;
+        PathAlgorithms.Result cached = results.get(fingerprint, s, t, algo);
+        if (cached != null) {
+            showResult(algo, cached, true);
+            return;
+        }
+
+        // Solver jalan di background (SolveTask) dan men-stream ekspansi ke buffer;
+        // PlaybackEngine merekam dan memutarnya menurut waktu (EDT).
+        SearchEventBuffer buffer = new SearchEventBuffer(EVENT_BUFFER_SIZE);
+        PathAlgorithms.Result[] result = new PathAlgorithms.Result[1];
+        long fp = fingerprint;
+
+        playback.play(buffer, SOLVE_PLAYBACK_SECONDS, () -> {
+            solveTask = null;
+            if (result[0] != null) results.put(fp, s, t, algo, result[0]);
+            showResult(algo, result[0], false);
+        });
+        solveTask = startTask(task -> {
+            try {
+                result[0] = runAlgorithm(algo, buffer, task);
+            } finally {
+                buffer.finish(); // Hasil terlihat oleh EDT setelah isDone()
+            }
+        });
+    }
+
+    // Maze lihat-saja (CompactGrid off-heap, tanpa Cell[][]): solver CompactGrid
+    // di background tanpa animasi, GridResult diadaptasi lewat toCellResult
+    private void solveLargeMaze(String algo) {
+        if (!LARGE_MAZE_ALGOS.contains(algo)) {
+            rejectLargeMaze();
+            return;
+        }
+        resetPath();
+        CompactGrid maze = largeMaze;
+        int s = maze.index(startNode.r, startNode.c), t = maze.index(endNode.r, endNode.c);
+        solveTask = startTask(task -> {
+            task.report(String.format("%s: solving %,d x %,d cells (no animation)", algo, maze.rows, maze.cols));
+            PathAlgorithms.GridResult gr;
+            try {
+                switch (algo) {
+                    case "BFS": gr = PathAlgorithms.solveBFS(maze, s, t, false); break;
+                    case "DFS": gr = PathAlgorithms.solveDFS(maze, s, t, false); break;
+                    case "Dijkstra": gr = PathAlgorithms.solveDijkstra(maze, s, t, false); break;
+                    default: gr = PathAlgorithms.solveAStar(maze, s, t, false);
                 }
+            } catch (OutOfMemoryError e) {
+                // Dijkstra / A* butuh int gCost per sel; heap default bisa tidak cukup
+                task.onEdt(() -> {
+                    solveTask = null;
+                    JOptionPane.showMessageDialog(this, "Not enough heap for " + algo
+                        + " on this maze; run with a larger -Xmx or use BFS / DFS.");
+                });
+                return;
+            }
+            PathAlgorithms.Result res = PathAlgorithms.toCellResult(gr);
+            task.onEdt(() -> {
+                solveTask = null;
+                showResult(algo, res, false);
             });
-            timer.start();
-        } else {
-            JOptionPane.showMessageDialog(this, "No Path Found!");
+        });
+    }
+
+    private void showUnreachable() {
+        JOptionPane.showMessageDialog(this, "No Path Found!\nStart and end are in different components ("
+            + components.componentCount() + " in this maze).");
+    }
+
+    private void showResult(String algo, PathAlgorithms.Result result, boolean cached) {
+        if (result == null || result.path.isEmpty()) {
+            JOptionPane.showMessageDialog(MazePanel.this, "No Path Found!");
+            return;
+        }
+
+        // BARU MUNCULKAN GARIS KUNING
+        finalPath = result.path;
+
+        repaint();
+        SoundUtils.playFinishSound();
+
+        double cost = largeMaze != null ? PathAlgorithms.calculatePathCost(largeMaze, finalPath)
+                                        : PathAlgorithms.calculatePathCost(grid, finalPath);
+        JOptionPane.showMessageDialog(null,
+            algo + " Finished!" + (cached ? " (cached)" : "") + "\nPath Nodes: " + finalPath.size() +
+            "\nTotal Weight Cost: " + cost + "\n\n" + getCacheStats());
+    }
+
+    // Tampilkan (atau batalkan, saat seek mundur) event [from, to) di overlay
+    // visited: sedikit = dirty-rect per sel, banyak = satu repaint. Tile
+    // terrain tetap di cache, repaint hanya blit tile + overlay.
+    private void showEvents(int[] events, int from, int to, boolean visible) {
+        boolean few = to - from <= DIRTY_CELLS_PER_FRAME;
+        for (int i = from; i < to; i++) {
+            int id = events[i] >>> 1;
+            Cell c = grid[id / COLS][id % COLS];
+            renderer.setVisited(c, (events[i] & 1) != 0, visible);
+            solveOverlay |= visible;
+            if (few) {
+                // Dirty-rect per sel; repaint() akan di-union RepaintManager
+                // (dua front bidirectional = hampir seluruh grid)
+                paintImmediately(renderer.cellBounds(c.r, c.c));
+            }
         }
+        if (!few) repaint();
+        if (from / 30 != to / 30) SoundUtils.playStepSound(); // Kira-kira tiap 30 sel
     }
 
-    public void compareAlgorithms() {
-        if(isAnimating) return;
-        
-        StringBuilder sb = new StringBuilder("Algorithm Comparison:\n\n");
-        String[] algos = {"BFS", "DFS", "Dijkstra", "A*"};
-        
-        for(String algo : algos) {
-            for(int r=0; r<ROWS; r++) for(int c=0; c<COLS; c++) grid[r][c].reset();
-            
-            long startTime = System.nanoTime();
-            PathAlgorithms.Result res = null;
-            
-            if(algo.equals("BFS")) res = PathAlgorithms.solveBFS(grid, startNode, endNode);
-            else if(algo.equals("DFS")) res = PathAlgorithms.solveDFS(grid, startNode, endNode);
-            else if(algo.equals("Dijkstra")) res = PathAlgorithms.solveDijkstra(grid, startNode, endNode);
-            else if(algo.equals("A*")) res = PathAlgorithms.solveAStar(grid, startNode, endNode);
-            
-            long endTime = System.nanoTime();
-            double duration = (endTime - startTime) / 1000000.0;
-            
-            if(res != null && !res.path.isEmpty()) {
-                double totalCost = PathAlgorithms.calculatePathCost(res.path);
-                sb.append(String.format("%-10s | Nodes: %4d | Cost: %6.1f | Time: %4.2f ms\n", 
-                    algo, res.visitedOrder.size(), totalCost, duration));
-            } else {
-                sb.append(algo + ": No Path Found\n");
+    // ---------------------------------------------
+    // Kontrol Playback (dipakai tombol di MazeFinalProject)
+    // ---------------------------------------------
+    PlaybackEngine getPlayback() {
+        return playback;
+    }
+
+    // Langsung ke hasil; saat Compare All, sisa algoritma juga dilewati
+    public void skipPlayback() {
+        skipRequested = true;
+        playback.skipToEnd();
+    }
+
+    // ---------------------------------------------
+    // Solve di Background
+    // ---------------------------------------------
+    private boolean isBusy() {
+        return playback.isActive() || solveTask != null;
+    }
+
+    // Jalankan work di background; status progress dihapus saat selesai
+    private SolveTask startTask(Consumer<SolveTask> work) {
+        return SolveTask.start(this::showProgress, task -> {
+            work.accept(task);
+            task.onEdt(() -> showProgress(null));
+        });
+    }
+
+    // Progress dari SolveTask (EDT); null = hapus status
+    private void showProgress(String status) {
+        solverStatus = status;
+        repaint(0, 0, getWidth(), 52);
+    }
+
+    // Jalankan satu algoritma pada maze saat ini (di thread SolveTask);
+    // listener menerima urutan ekspansi, task dicek tiap ekspansi untuk cancel
+    private PathAlgorithms.Result runAlgorithm(String algo, SearchListener listener, SolveTask task) {
+        int n = ROWS * COLS;
+        try (SearchContext ctx = SearchContext.acquire(n);
+             SearchContext bwd = SearchContext.acquire(n)) {
+            ctx.withListener(task.track(algo, listener, ctx, bwd));
+            LandmarkHeuristic landmarks = algo.equals("A*-ALT") ? getAlt(task) : null;
+            return solve(algo, grid, startNode, endNode, hpa, landmarks, ctx, bwd);
+        }
+    }
+
+    // Nama algoritma -> solver (dipakai juga CompareBenchmark); listener dari ctx
+    static PathAlgorithms.Result solve(String algo, Cell[][] grid, Cell start, Cell end,
+                                       HierarchicalPathfinder hpa, LandmarkHeuristic alt,
+                                       SearchContext ctx, SearchContext bwd) {
+        switch (algo) {
+            case "BFS": return PathAlgorithms.solveBFS(grid, start, end, ctx);
+            case "DFS": return PathAlgorithms.solveDFS(grid, start, end, ctx);
+            case "Dijkstra": return PathAlgorithms.solveDijkstra(grid, start, end, MinQueue.Type.INDEXED, ctx);
+            case "Dial": return PathAlgorithms.solveDijkstra(grid, start, end, MinQueue.Type.BUCKET, ctx);
+            case "A*": return PathAlgorithms.solveAStar(grid, start, end, MinQueue.Type.INDEXED, ctx);
+            case "JPS": return PathAlgorithms.solveJPS(grid, start, end, ctx);
+            case "Bi-Dijkstra": return PathAlgorithms.solveBiDijkstra(grid, start, end, ctx, bwd);
+            case "Bi-A*": return PathAlgorithms.solveBiAStar(grid, start, end, ctx, bwd);
+            case "HPA*": return hpa.findPath(start, end, ctx.listener);
+            case "A*-ALT": return PathAlgorithms.solveAStarALT(grid, start, end, alt, ctx);
+            default: return null;
+        }
+    }
+
+    // ---------------------------------------------
+    // Compare All (Mode Benchmark, lihat CompareBenchmark)
+    // ---------------------------------------------
+    // extraSeeds > 0: ikut ukur maze ber-seed 1..extraSeeds dengan ukuran, generator
+    // terpilih & pilihan terrain yang sama (pipeline generateTerrain yang sama)
+    public void compareAlgorithms(int extraSeeds) {
+        if(isBusy() || rejectLargeMaze()) return;
+        resetPath();
+
+        // Maze saat ini tanpa path: tidak diukur (semua algoritma hanya akan membanjiri
+        // region start); maze ber-seed tambahan tetap diukur
+        boolean reachable = components.connected(startNode, endNode);
+        if (!reachable && extraSeeds == 0) {
+            showUnreachable();
+            return;
+        }
+
+        // Tabel yang sama sudah pernah diukur: tampilkan langsung (tanpa ukur & putar ulang)
+        int s = startNode.r * COLS + startNode.c, t = endNode.r * COLS + endNode.c;
+        String key = "Compare All +" + extraSeeds + " " + generator.getName() + (weightedTerrain ? " weighted" : "");
+        List<CompareBenchmark.Row> cached = comparisons.get(fingerprint, s, t, key);
+        if (cached != null) {
+            JOptionPane.showMessageDialog(this, comparisonView(cached), "Algorithm Comparison (cached)",
+                JOptionPane.PLAIN_MESSAGE);
+            return;
+        }
+        long fp = fingerprint;
+        MazeGenerator seededGenerator = generator;
+        boolean seededWeighted = weightedTerrain;
+        solveTask = startTask(task -> runComparison(task, reachable, extraSeeds, seededGenerator, seededWeighted,
+            rows -> comparisons.put(fp, s, t, key, rows)));
+    }
+
+    // Ukur semua algoritma (thread SolveTask), lalu putar ekspansinya di EDT
+    private void runComparison(SolveTask task, boolean includeCurrent, int extraSeeds,
+                               MazeGenerator seededGenerator, boolean seededWeighted,
+                               Consumer<List<CompareBenchmark.Row>> onMeasured) {
+        String[] algos = {"BFS", "DFS", "Dijkstra", "Dial", "A*", "JPS", "Bi-Dijkstra", "Bi-A*", "HPA*", "A*-ALT"};
+        List<CompareBenchmark.Case> cases = new ArrayList<>();
+        if (includeCurrent) cases.add(new CompareBenchmark.Case(CURRENT_MAZE, grid, startNode, endNode));
+
+        for (int seed = 1; seed <= extraSeeds; seed++) {
+            task.checkCancelled();
+            Cell[][] g = new Cell[ROWS][COLS];
+            generateTerrain(g, seededGenerator, seededWeighted, new Random(seed));
+            cases.add(new CompareBenchmark.Case("seed " + seed, g, g[1][1], g[ROWS - 2][COLS - 2]));
+        }
+
+        List<CompareBenchmark.Row> rows = CompareBenchmark.run(cases, algos, task);
+        List<String> found = new ArrayList<>();
+        for (CompareBenchmark.Row row : rows) {
+            if (row.maze.equals(CURRENT_MAZE) && row.cost >= 0) found.add(row.algo);
+        }
+
+        task.onEdt(() -> {
+            solveTask = null;
+            skipRequested = false;
+            onMeasured.accept(rows);
+            playComparison(found, 0, comparisonView(rows));
+        });
+    }
+
+    // Putar ekspansi tiap algoritma bergantian (lewat PlaybackEngine), lalu tampilkan tabel
+    private void playComparison(List<String> algos, int index, JComponent report) {
+        clearVisited();
+        if (index == algos.size() || skipRequested) {
+            playbackLabel = null;
+            repaint();
+            JOptionPane.showMessageDialog(this, report, "Algorithm Comparison", JOptionPane.PLAIN_MESSAGE);
+            return;
+        }
+        String algo = algos.get(index);
+        playbackLabel = algo + " (" + (index + 1) + "/" + algos.size() + ")";
+        // Rekam ulang urutan ekspansi di background (di luar pengukuran waktu)
+        SearchEventBuffer buffer = new SearchEventBuffer(EVENT_BUFFER_SIZE);
+        playback.play(buffer, COMPARE_PLAYBACK_SECONDS, () -> {
+            solveTask = null;
+            playComparison(algos, index + 1, report);
+        });
+        solveTask = startTask(task -> {
+            try {
+                runAlgorithm(algo, buffer, task);
+            } finally {
+                buffer.finish();
             }
+        });
+        repaint();
+    }
+
+    // Tabel hasil benchmark + penghematan ekspansi pada maze saat ini
+    private JComponent comparisonView(List<CompareBenchmark.Row> rows) {
+        String[] columns = {"Maze", "Algorithm", "Trials", "Median (ms)", "p90 (ms)", "p99 (ms)",
+            "Expanded", "Expansions/s", "Alloc/solve", "Cost"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        Map<String, Integer> expanded = new HashMap<>();
+        for (CompareBenchmark.Row row : rows) {
+            model.addRow(new Object[]{
+                row.maze, row.algo, row.trials,
+                String.format("%.3f", row.medianMs),
+                String.format("%.3f", row.p90Ms),
+                String.format("%.3f", row.p99Ms),
+                String.format("%,d", row.expanded),
+                String.format("%,.0f", row.expansionsPerSec),
+                String.format("%,.0f B", row.allocBytes),
+                row.cost < 0 ? "No Path" : String.format("%.1f", row.cost)
+            });
+            if (row.maze.equals(CURRENT_MAZE) && row.cost >= 0) expanded.put(row.algo, row.expanded);
         }
-        
-        resetPath(); 
-        JOptionPane.showMessageDialog(this, new JTextArea(sb.toString()));
+
+        JTable table = new JTable(model);
+        table.setFillsViewportHeight(true);
+        JScrollPane scroll = new JScrollPane(table);
+        scroll.setPreferredSize(new Dimension(900, Math.min(480, (rows.size() + 2) * table.getRowHeight())));
+
+        // Penghematan bidirectional / landmark dibanding satu arah
+        StringBuilder sb = new StringBuilder();
+        appendSavings(sb, expanded, "Bi-Dijkstra", "Dijkstra");
+        appendSavings(sb, expanded, "Bi-A*", "A*");
+        appendSavings(sb, expanded, "A*-ALT", "A*");
+        sb.append("\n\n").append(getCacheStats());
+
+        JPanel panel = new JPanel(new BorderLayout(0, 8));
+        panel.add(scroll, BorderLayout.CENTER);
+        panel.add(new JTextArea(sb.toString().trim()), BorderLayout.SOUTH);
+        return panel;
+    }
+
+    private void appendSavings(StringBuilder sb, Map<String, Integer> expanded, String algo, String baseline) {
+        Integer a = expanded.get(algo), b = expanded.get(baseline);
+        if (a != null && b != null && b > 0) {
+            sb.append(String.format("\n%s expands %.0f%% of %s's nodes", algo, 100.0 * a / b, baseline));
+        }
+    }
+
+    // ---------------------------------------------
+    // Edit Terrain Live + Replanning Inkremental
+    // ---------------------------------------------
+    private void editCell(int r, int c) {
+        if (isBusy() || largeMaze != null || !isValid(r, c)) return;
+        if (r == 0 || c == 0 || r == ROWS - 1 || c == COLS - 1) return; // Border luar tetap tembok
+        Cell cell = grid[r][c];
+        if (cell == startNode || cell == endNode) return;
+
+        int oldType = cell.type;
+        cell.type = (cell.type + 1) % 4;
+        renderer.invalidateCell(r, c);
+        fingerprint = SolveCache.update(fingerprint, r * COLS + c, oldType, cell.type);
+        if (seed != 0) setSeed(0); // Seed tidak lagi menghasilkan maze ini
+
+        // Perbarui struktur yang bergantung pada terrain
+        hpa.updateCell(r, c);
+        alt = null; // Jarak landmark usang, dibangun ulang saat A*-ALT dipakai
+        planner.updateCell(r, c);
+        components.updateCell(r, c);
+
+        // Hapus tanda replan sebelumnya saja (tanda animasi solve: sekali sapu penuh)
+        if (solveOverlay) clearVisited();
+        Rectangle dirty = renderer.cellBounds(r, c);
+        addPathBounds(dirty, finalPath);
+        boolean many = replanMarkedCount > REPLAN_DIRTY_CELLS;
+        for (int i = 0; i < replanMarkedCount; i++) {
+            int id = replanMarked[i];
+            renderer.setVisited(grid[id / COLS][id % COLS], false, false);
+            if (!many) dirty.add(renderer.cellBounds(id / COLS, id % COLS));
+        }
+        replanMarkedCount = 0;
+
+        if (!components.connected(startNode, endNode)) {
+            // Goal terputus: replan ditunda (antrian LPA* tetap menyimpan sel
+            // inkonsisten) sampai edit berikutnya menyambungkannya lagi
+            finalPath = null;
+        } else {
+            // Replan: hanya area terdampak yang diproses ulang (dan ditandai)
+            PathAlgorithms.Result res = planner.computeShortestPath((id, fromEnd) -> markReplanned(id));
+            finalPath = res.path.isEmpty() ? null : res.path;
+        }
+        many |= replanMarkedCount > REPLAN_DIRTY_CELLS;
+        if (many) {
+            repaint();
+            return;
+        }
+        for (int i = 0; i < replanMarkedCount; i++) {
+            int id = replanMarked[i];
+            dirty.add(renderer.cellBounds(id / COLS, id % COLS));
+        }
+        addPathBounds(dirty, finalPath);
+        repaint(dirty);
+    }
+
+    private void markReplanned(int id) {
+        renderer.setVisited(grid[id / COLS][id % COLS], false, true);
+        if (replanMarkedCount == replanMarked.length) replanMarked = Arrays.copyOf(replanMarked, replanMarkedCount * 2);
+        replanMarked[replanMarkedCount++] = id;
+    }
+
+    // Perluas dirty-rect dengan kotak pembatas path (garis path digambar di atas tile)
+    private void addPathBounds(Rectangle dirty, PackedPath path) {
+        if (path == null || path.isEmpty()) return;
+        int minR = ROWS, maxR = 0, minC = COLS, maxC = 0;
+        for (PackedPath.Cursor it = path.cursor(); it.hasNext(); ) {
+            int id = it.next(), pr = id / COLS, pc = id % COLS;
+            minR = Math.min(minR, pr);
+            maxR = Math.max(maxR, pr);
+            minC = Math.min(minC, pc);
+            maxC = Math.max(maxC, pc);
+        }
+        Rectangle box = renderer.cellBounds(minR, minC).union(renderer.cellBounds(maxR, maxC));
+        box.grow(3, 3); // Garis path lebih tebal dari sel saat zoom kecil
+        dirty.add(box);
+    }
+
+    // Maze lihat-saja tidak punya Cell[][] untuk solver interaktif (hanya solver CompactGrid)
+    private boolean rejectLargeMaze() {
+        if (largeMaze == null) return false;
+        JOptionPane.showMessageDialog(this, "Maze " + ROWS + "x" + COLS
+            + " is view-only: only BFS, DFS, Dijkstra and A* can solve it here (without animation); "
+            + "run the other solvers headless with MazeFile / ExperimentRunner.");
+        return true;
     }
 
+    // Dipanggil di thread SolveTask: tabel baru disimpan lewat EDT, dan dibuang
+    // jika task dibatalkan (maze bisa sudah diganti)
+    private LandmarkHeuristic getAlt(SolveTask task) {
+        LandmarkHeuristic landmarks = alt;
+        if (landmarks == null) {
+            LandmarkHeuristic built = new LandmarkHeuristic(grid, ALT_LANDMARKS);
+            task.onEdt(() -> alt = built);
+            landmarks = built;
+        }
+        return landmarks;
+    }
+
+    // Batalkan solve yang sedang jalan (berhenti di ekspansi berikutnya) dan animasinya
     public void resetPath() {
-        if(timer != null) timer.stop();
-        isAnimating = false;
+        if (solveTask != null) solveTask.cancel();
+        solveTask = null;
+        solverStatus = null;
+        playback.cancel();
+        playbackLabel = null;
         finalPath = null;
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                grid[r][c].reset();
+        clearVisited();
+    }
+
+    // Hapus status visited semua sel (overlay ikut dibuang, tile terrain tetap)
+    private void clearVisited() {
+        solveOverlay = false;
+        replanMarkedCount = 0;
+        if (grid != null) {
+            for (int r = 0; r < ROWS; r++) {
+                for (int c = 0; c < COLS; c++) {
+                    grid[r][c].reset();
+                }
             }
         }
+        renderer.clearOverlay();
         repaint();
     }
 
-    private List<Cell> getNeighbors(Cell c, int dist) {
-        List<Cell> list = new ArrayList<>();
-        int[] dr = {-dist, dist, 0, 0};
-        int[] dc = {0, 0, -dist, dist};
-        for (int i = 0; i < 4; i++) {
-            int nr = c.r + dr[i];
-            int nc = c.c + dc[i];
-            if (isValid(nr, nc)) list.add(grid[nr][nc]);
-        }
-        return list;
-    }
 
     private boolean isValid(int r, int c) {
         return r >= 0 && r < ROWS && c >= 0 && c < COLS;
@@ -300,75 +867,48 @@ class MazePanel extends JPanel {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                Cell cell = grid[r][c];
-                int x = c * CELL_SIZE;
-                int y = r * CELL_SIZE;
-
-                if (cell.type == 0) {
-                    g.setColor(new Color(30, 30, 30)); // Tembok (Dark)
-                    g.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                } else {
-                    // Warna Terrain
-                    if (cell.type == 1) g.setColor(new Color(34, 139, 34)); // Grass
-                    else if (cell.type == 2) g.setColor(new Color(139, 69, 19)); // Mud
-                    else if (cell.type == 3) g.setColor(new Color(30, 144, 255)); // Water
-
-                    // Jika visited (Animasi)
-                    if (cell.visited) {
-                         // Campur warna terrain dengan highlight
-                        g.setColor(blend(g.getColor(), Color.CYAN, 0.3f));
-                    }
-                    g.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                    
-                    // Garis grid sangat tipis
-                    g.setColor(new Color(0, 0, 0, 50)); 
-                    g.drawRect(x, y, CELL_SIZE, CELL_SIZE);
-                }
-            }
-        }
+        // Tile terrain + overlay visited dari cache (hanya area clip / dirty-rect)
+        renderer.paint(g);
 
-        // Gambar Path Kuning (Solusi)
+        // Gambar Path Kuning (Solusi), hanya bagian yang terlihat
         if (finalPath != null && finalPath.size() > 1) {
             g2d.setColor(Color.YELLOW);
             g2d.setStroke(new BasicStroke(3)); // Garis tebal
-            
-            // Gambar garis menyambung antar titik tengah cell
-            int[] xPoints = new int[finalPath.size()];
-            int[] yPoints = new int[finalPath.size()];
-            
-            for(int i=0; i<finalPath.size(); i++) {
-                Cell c = finalPath.get(i);
-                xPoints[i] = c.c * CELL_SIZE + CELL_SIZE/2;
-                yPoints[i] = c.r * CELL_SIZE + CELL_SIZE/2;
-            }
-            g2d.drawPolyline(xPoints, yPoints, finalPath.size());
+            renderer.paintPath(g2d, finalPath);
         }
 
         // Marker Start/End
         drawMarker(g, startNode, Color.GREEN, "S");
         drawMarker(g, endNode, Color.RED, "E");
-    }
-    
-    // Helper untuk mencampur warna (visualisasi visited lebih cantik)
-    private Color blend(Color c1, Color c2, float ratio) {
-        int r = (int) (c1.getRed() * (1 - ratio) + c2.getRed() * ratio);
-        int g = (int) (c1.getGreen() * (1 - ratio) + c2.getGreen() * ratio);
-        int b = (int) (c1.getBlue() * (1 - ratio) + c2.getBlue() * ratio);
-        return new Color(r, g, b);
+
+        // Label algoritma yang sedang diputar (Compare All) & progress solver
+        drawBadge(g, playbackLabel, 4);
+        drawBadge(g, solverStatus, 28);
     }
 
+    private void drawBadge(Graphics g, String text, int y) {
+        if (text == null) return;
+        g.setFont(new Font("Arial", Font.BOLD, 12));
+        int w = g.getFontMetrics().stringWidth(text);
+        g.setColor(new Color(0, 0, 0, 170));
+        g.fillRect(4, y, w + 12, 20);
+        g.setColor(Color.WHITE);
+        g.drawString(text, 10, y + 14);
+    }
+    
     private void drawMarker(Graphics g, Cell node, Color color, String text) {
         if (node != null) {
+            Rectangle cell = renderer.cellBounds(node.r, node.c);
+            int size = Math.max(cell.width, 16); // Tetap terlihat saat zoom kecil
+            int x = cell.x + (cell.width - size) / 2, y = cell.y + (cell.height - size) / 2;
             g.setColor(color);
-            g.fillOval(node.c * CELL_SIZE + 2, node.r * CELL_SIZE + 2, CELL_SIZE-4, CELL_SIZE-4);
+            g.fillOval(x + 2, y + 2, size-4, size-4);
             g.setColor(Color.BLACK);
             g.setFont(new Font("Arial", Font.BOLD, 10));
             FontMetrics fm = g.getFontMetrics();
             int w = fm.stringWidth(text);
             int h = fm.getAscent();
-            g.drawString(text, node.c * CELL_SIZE + (CELL_SIZE-w)/2, node.r * CELL_SIZE + (CELL_SIZE+h)/2 - 2);
+            g.drawString(text, x + (size-w)/2, y + (size+h)/2 - 2);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,546 @@
+package Maze;
+
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+// MazeRenderer (Viewport Ber-Tile dengan Zoom dan Mipmap)
+// Grid dipotong menjadi tile ~256 px per level zoom. paint() hanya
+// menggambar tile yang memotong area clip (viewport / dirty-rect); tile
+// yang sudah dirender disimpan di cache LRU, jadi pan cukup merender tile
+// yang baru terlihat.
+//
+// Zoom >= 1 px/sel: tile dirender langsung dari sel (pixel ditulis ke
+// raster, garis grid mulai 4 px/sel). Zoom < 1: mipmap, tiap pixel = rata-rata
+// warna blok sel (box filter); bila 4 tile level yang lebih halus sudah di
+// cache, cukup rata-rata 2x2 pixel-nya. Maze 10000x10000 bisa dilihat utuh.
+//
+// Sumber: Cell[][] atau CompactGrid untuk maze yang terlalu besar untuk
+// Cell[][]. Tile hanya berisi terrain; terrain sel berubah -> invalidateCell()
+// membuang tile yang memuatnya di semua level.
+//
+// Status visited (Cell[][] saja) digambar di layer terpisah: overlay ARGB per
+// tile, hanya untuk level zoom aktif, di atas tile terrain. setVisited()
+// menulis pixel sel itu saja di overlay; tile terrain tidak pernah dibuang.
+class MazeRenderer {
+    static final double[] ZOOM_LEVELS = {
+        1 / 64.0, 1 / 32.0, 1 / 16.0, 1 / 8.0, 1 / 4.0, 1 / 2.0, 1, 2, 4, 8, 12, 20, 32
+    };
+    static final int DEFAULT_ZOOM = 11; // 20 px/sel (ukuran sel lama)
+    private static final int BASE_ZOOM = 6; // 1 px/sel, level terhalus yang dirender per sel
+    private static final int TILE_PX = 256;
+    private static final int MAX_TILES = 384; // ~96 MB pada 256x256 px
+    private static final int MAX_OVERLAYS = 96; // Overlay ARGB, cukup untuk satu viewport
+    private static final int PATH_CHUNK = 256; // Langkah path per bounding box
+
+    // Palet terrain: index = type
+    private static final int[] FILL = new int[4];
+    private static final int[] LINE = new int[4]; // FILL tertutup garis grid tipis (alpha 50)
+
+    // Overlay: index = status (1 = visited, 2 = dari end). Highlight alpha 0.3
+    // di atas terrain = blend(terrain, highlight, 0.3) seperti sebelumnya;
+    // MARK_LINE sudah tertutup garis grid agar komposit di garis juga sama.
+    private static final int MARK_ALPHA = 77;
+    private static final int[] MARK_RGB = new int[3];
+    private static final int[] MARK = new int[3];
+    private static final int[] MARK_LINE = new int[3];
+
+    static {
+        Color[] terrain = {
+            new Color(30, 30, 30),   // Wall
+            new Color(34, 139, 34),  // Grass
+            new Color(139, 69, 19),  // Mud
+            new Color(30, 144, 255)  // Water
+        };
+        Color[] highlight = {null, Color.CYAN, Color.MAGENTA};
+        for (int t = 0; t < 4; t++) {
+            FILL[t] = terrain[t].getRGB() & 0xFFFFFF;
+            LINE[t] = t == 0 ? FILL[t] : withGridLine(terrain[t]);
+        }
+        for (int s = 1; s < 3; s++) {
+            MARK_RGB[s] = highlight[s].getRGB() & 0xFFFFFF;
+            MARK[s] = (MARK_ALPHA << 24) | MARK_RGB[s];
+            MARK_LINE[s] = (MARK_ALPHA << 24) | withGridLine(highlight[s]);
+        }
+    }
+
+    // Komposit garis dihitung Java2D sendiri agar pixel sama dengan drawRect
+    private static int withGridLine(Color c) {
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = probe.createGraphics();
+        g.setColor(c);
+        g.fillRect(0, 0, 1, 1);
+        g.setColor(new Color(0, 0, 0, 50));
+        g.fillRect(0, 0, 1, 1);
+        g.dispose();
+        return probe.getRGB(0, 0) & 0xFFFFFF;
+    }
+
+    private Cell[][] cells;     // null = mode CompactGrid
+    private CompactGrid compact;
+    private int rows, cols;
+    private int zoom = DEFAULT_ZOOM;
+
+    // Cache tile LRU (access order): key = (zoom, ty, tx)
+    private final LinkedHashMap<Long, BufferedImage> tiles = new LinkedHashMap<Long, BufferedImage>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+
+    // Overlay visited level zoom aktif (LRU): key sama dengan tile terrain.
+    // Overlay yang tidak ada dibangun ulang dari status sel saat terlihat.
+    private final LinkedHashMap<Long, Overlay> overlays = new LinkedHashMap<Long, Overlay>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Overlay> eldest) {
+            return size() > MAX_OVERLAYS;
+        }
+    };
+    private int marked; // Sel dengan status visited; 0 = overlay tidak digambar
+
+    // Bounding box per PATH_CHUNK langkah dari path terakhir yang digambar
+    private PackedPath chunked;
+    private int[] chunkStart, chunkMinR, chunkMaxR, chunkMinC, chunkMaxC;
+
+    void setSource(Cell[][] cells) {
+        this.cells = cells;
+        this.compact = null;
+        setSize(cells.length, cells[0].length);
+    }
+
+    void setSource(CompactGrid grid) {
+        this.cells = null;
+        this.compact = grid;
+        setSize(grid.rows, grid.cols);
+    }
+
+    // Grid baru diasumsikan belum punya sel visited
+    private void setSize(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        invalidateAll();
+        clearOverlay();
+    }
+
+    // ---------------------------------------------
+    // Zoom & koordinat
+    // ---------------------------------------------
+    int getZoom() {
+        return zoom;
+    }
+
+    void setZoom(int zoom) {
+        zoom = Math.max(0, Math.min(ZOOM_LEVELS.length - 1, zoom));
+        if (zoom != this.zoom) overlays.clear(); // Overlay hanya untuk level aktif
+        this.zoom = zoom;
+    }
+
+    // Pixel per sel pada zoom saat ini
+    double scale() {
+        return ZOOM_LEVELS[zoom];
+    }
+
+    Dimension preferredSize() {
+        return new Dimension((int) Math.ceil(cols * scale()), (int) Math.ceil(rows * scale()));
+    }
+
+    Rectangle cellBounds(int r, int c) {
+        double s = scale();
+        int x = (int) (c * s), y = (int) (r * s);
+        return new Rectangle(x, y, Math.max(1, (int) ((c + 1) * s) - x), Math.max(1, (int) ((r + 1) * s) - y));
+    }
+
+    // Sel di bawah pixel (x, y)
+    int rowAt(int y) {
+        return (int) (y / scale());
+    }
+
+    int colAt(int x) {
+        return (int) (x / scale());
+    }
+
+    // ---------------------------------------------
+    // Invalidasi
+    // ---------------------------------------------
+    // Terrain satu sel berubah
+    void invalidateCell(int r, int c) {
+        for (int z = 0; z < ZOOM_LEVELS.length; z++) {
+            int n = tileCells(z);
+            tiles.remove(key(z, r / n, c / n));
+        }
+    }
+
+    // Grid baru
+    void invalidateAll() {
+        tiles.clear();
+        chunked = null;
+    }
+
+    // ---------------------------------------------
+    // Paint
+    // ---------------------------------------------
+    // Hanya tile yang memotong area clip
+    void paint(Graphics g) {
+        Rectangle bounds = new Rectangle(preferredSize());
+        Rectangle clip = g.getClipBounds();
+        clip = clip == null ? bounds : clip.intersection(bounds);
+        if (clip.isEmpty()) return;
+
+        int px = tilePixels(zoom);
+        for (int ty = clip.y / px; ty <= (clip.y + clip.height - 1) / px; ty++) {
+            for (int tx = clip.x / px; tx <= (clip.x + clip.width - 1) / px; tx++) {
+                BufferedImage tile = tile(zoom, tx, ty);
+                if (tile == null) continue;
+                g.drawImage(tile, tx * px, ty * px, null);
+                if (marked == 0) continue;
+                Overlay overlay = overlay(tx, ty);
+                if (overlay.img != null) g.drawImage(overlay.img, tx * px, ty * px, null);
+            }
+        }
+    }
+
+    // Path digambar per chunk; chunk di luar clip dilewati tanpa decode
+    void paintPath(Graphics2D g, PackedPath path) {
+        if (path.size() < 2) return;
+        if (chunked != path) chunkPath(path);
+
+        double s = scale();
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(preferredSize());
+        int margin = 2; // Garis 3 px lebih tebal dari sel saat zoom kecil
+        int r0 = (int) (clip.y / s) - margin, r1 = (int) ((clip.y + clip.height) / s) + margin;
+        int c0 = (int) (clip.x / s) - margin, c1 = (int) ((clip.x + clip.width) / s) + margin;
+
+        Path2D.Double line = new Path2D.Double();
+        boolean open = false; // Chunk sebelumnya ikut digambar (sambung tanpa moveTo)
+        for (int k = 0; k < chunkStart.length; k++) {
+            if (chunkMaxR[k] < r0 || chunkMinR[k] > r1 || chunkMaxC[k] < c0 || chunkMinC[k] > c1) {
+                open = false;
+                continue;
+            }
+            int id = chunkStart[k], dir = -1;
+            if (!open) line.moveTo((id % cols + 0.5) * s, (id / cols + 0.5) * s);
+            int end = Math.min(path.size() - 1, (k + 1) * PATH_CHUNK);
+            for (int step = k * PATH_CHUNK; step < end; step++) {
+                int move = path.move(step);
+                if (dir != -1 && move != dir) line.lineTo((id % cols + 0.5) * s, (id / cols + 0.5) * s); // Belok
+                dir = move;
+                id += PackedPath.delta(move, cols);
+            }
+            line.lineTo((id % cols + 0.5) * s, (id / cols + 0.5) * s);
+            open = true;
+        }
+        g.draw(line);
+    }
+
+    // Chunk k = langkah [k * PATH_CHUNK, (k + 1) * PATH_CHUNK)
+    private void chunkPath(PackedPath path) {
+        int n = (path.size() - 2) / PATH_CHUNK + 1;
+        chunkStart = new int[n];
+        chunkMinR = new int[n];
+        chunkMaxR = new int[n];
+        chunkMinC = new int[n];
+        chunkMaxC = new int[n];
+        int id = path.first();
+        for (int k = 0; k < n; k++) {
+            chunkStart[k] = id;
+            int minR = id / cols, maxR = minR, minC = id % cols, maxC = minC;
+            int end = Math.min(path.size() - 1, (k + 1) * PATH_CHUNK);
+            for (int step = k * PATH_CHUNK; step < end; step++) {
+                id += PackedPath.delta(path.move(step), cols);
+                int r = id / cols, c = id % cols;
+                minR = Math.min(minR, r);
+                maxR = Math.max(maxR, r);
+                minC = Math.min(minC, c);
+                maxC = Math.max(maxC, c);
+            }
+            chunkMinR[k] = minR;
+            chunkMaxR[k] = maxR;
+            chunkMinC[k] = minC;
+            chunkMaxC[k] = maxC;
+        }
+        chunked = path;
+    }
+
+    // ---------------------------------------------
+    // Overlay Visited
+    // ---------------------------------------------
+    // Overlay satu tile pada level zoom aktif. Zoom >= 1: blok sel diisi
+    // MARK. Mipmap: jumlah sel visited per pixel; alpha = MARK_ALPHA x porsi
+    // sel visited di blok pixel itu (rata-rata blend per sel, seperti terrain).
+    private static final class Overlay {
+        final int w, h;                 // Ukuran dalam pixel
+        final int[] fromStart, fromEnd; // Mipmap saja
+        BufferedImage img;              // null selama belum ada sel visited
+        int[] px;
+
+        Overlay(int w, int h, boolean mip) {
+            this.w = w;
+            this.h = h;
+            fromStart = mip ? new int[w * h] : null;
+            fromEnd = mip ? new int[w * h] : null;
+        }
+
+        int[] pixels() {
+            if (img == null) {
+                img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+                px = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+            }
+            return px;
+        }
+    }
+
+    // Ubah status visited satu sel; hanya pixel sel itu di overlay yang ditulis
+    void setVisited(Cell cell, boolean fromEnd, boolean visible) {
+        int before = status(cell);
+        if (fromEnd) cell.visitedFromEnd = visible;
+        else cell.visited = visible;
+        int after = status(cell);
+        if (before == after) return;
+        marked += (after != 0 ? 1 : 0) - (before != 0 ? 1 : 0);
+
+        int n = tileCells(zoom);
+        Overlay overlay = overlays.get(key(zoom, cell.r / n, cell.c / n));
+        if (overlay == null) return; // Dibangun dari status sel saat tile terlihat
+        int r = cell.r % n, c = cell.c % n;
+        if (zoom >= BASE_ZOOM) {
+            markCell(overlay, r, c, after);
+        } else {
+            int perPx = n / TILE_PX, i = (r / perPx) * overlay.w + c / perPx;
+            count(overlay, i, before, -1);
+            count(overlay, i, after, 1);
+            markPixel(overlay, i, cell.r - r + r / perPx * perPx, cell.c - c + c / perPx * perPx, perPx);
+        }
+    }
+
+    // Semua status visited sudah di-reset pemanggil
+    void clearOverlay() {
+        overlays.clear();
+        marked = 0;
+    }
+
+    private Overlay overlay(int tx, int ty) {
+        long k = key(zoom, ty, tx);
+        Overlay overlay = overlays.get(k);
+        if (overlay != null) return overlay;
+
+        int n = tileCells(zoom);
+        int r0 = ty * n, c0 = tx * n;
+        int h = Math.min(n, rows - r0), w = Math.min(n, cols - c0);
+        if (zoom >= BASE_ZOOM) {
+            int cs = (int) scale();
+            overlay = new Overlay(w * cs, h * cs, false);
+            for (int r = 0; r < h; r++) {
+                for (int c = 0; c < w; c++) {
+                    int s = status(cells[r0 + r][c0 + c]);
+                    if (s != 0) markCell(overlay, r, c, s);
+                }
+            }
+        } else {
+            int perPx = n / TILE_PX;
+            overlay = new Overlay((w + perPx - 1) / perPx, (h + perPx - 1) / perPx, true);
+            for (int r = 0; r < h; r++) {
+                for (int c = 0; c < w; c++) {
+                    count(overlay, (r / perPx) * overlay.w + c / perPx, status(cells[r0 + r][c0 + c]), 1);
+                }
+            }
+            for (int i = 0; i < overlay.w * overlay.h; i++) {
+                if (overlay.fromStart[i] + overlay.fromEnd[i] > 0) {
+                    markPixel(overlay, i, r0 + i / overlay.w * perPx, c0 + i % overlay.w * perPx, perPx);
+                }
+            }
+        }
+        overlays.put(k, overlay);
+        return overlay;
+    }
+
+    // Zoom >= 1: blok sel (r, c) lokal tile, status 0 = transparan
+    private void markCell(Overlay overlay, int r, int c, int status) {
+        if (status == 0 && overlay.img == null) return;
+        int[] px = overlay.pixels();
+        int cs = (int) scale(), stride = overlay.w;
+        int base = r * cs * stride + c * cs;
+        int fill = status == 0 ? 0 : MARK[status];
+        for (int y = 0; y < cs; y++) {
+            Arrays.fill(px, base + y * stride, base + y * stride + cs, fill);
+        }
+        if (cs >= 4 && status != 0) {
+            // Garis grid di sisi atas & kiri, sama dengan tile terrain
+            Arrays.fill(px, base, base + cs, MARK_LINE[status]);
+            for (int y = 1; y < cs; y++) px[base + y * stride] = MARK_LINE[status];
+        }
+    }
+
+    private static void count(Overlay overlay, int i, int status, int delta) {
+        if (status == 1) overlay.fromStart[i] += delta;
+        else if (status == 2) overlay.fromEnd[i] += delta;
+    }
+
+    // Mipmap: pixel i mencakup blok sel mulai (r, c) selebar perPx (terpotong di tepi grid)
+    private void markPixel(Overlay overlay, int i, int r, int c, int perPx) {
+        int start = overlay.fromStart[i], end = overlay.fromEnd[i], hits = start + end;
+        if (hits == 0 && overlay.img == null) return;
+        int[] px = overlay.pixels();
+        if (hits == 0) {
+            px[i] = 0;
+            return;
+        }
+        int block = Math.min(perPx, rows - r) * Math.min(perPx, cols - c);
+        int rgb = 0;
+        for (int shift = 0; shift < 24; shift += 8) {
+            int channel = (start * ((MARK_RGB[1] >>> shift) & 0xFF) + end * ((MARK_RGB[2] >>> shift) & 0xFF)) / hits;
+            rgb |= channel << shift;
+        }
+        px[i] = (MARK_ALPHA * hits / block) << 24 | rgb;
+    }
+
+    private static int status(Cell cell) {
+        if (cell.type == 0) return 0; // Tembok tetap gelap
+        return cell.visited ? 1 : cell.visitedFromEnd ? 2 : 0;
+    }
+
+    // ---------------------------------------------
+    // Tile
+    // ---------------------------------------------
+    // Sel per sisi tile pada level z
+    private static int tileCells(int z) {
+        double s = ZOOM_LEVELS[z];
+        return s >= 1 ? Math.max(1, TILE_PX / (int) s) : TILE_PX * (int) (1 / s);
+    }
+
+    // Pixel per sisi tile penuh pada level z
+    private static int tilePixels(int z) {
+        double s = ZOOM_LEVELS[z];
+        return s >= 1 ? tileCells(z) * (int) s : TILE_PX;
+    }
+
+    private static long key(int z, int ty, int tx) {
+        return ((long) z << 58) | ((long) ty << 29) | tx;
+    }
+
+    // Tile dari cache, atau dirender (null jika di luar grid)
+    private BufferedImage tile(int z, int tx, int ty) {
+        int n = tileCells(z);
+        if ((long) tx * n >= cols || (long) ty * n >= rows) return null;
+        long k = key(z, ty, tx);
+        BufferedImage img = tiles.get(k);
+        if (img == null) {
+            img = z >= BASE_ZOOM ? renderCells(z, tx, ty) : downsample(z, tx, ty);
+            tiles.put(k, img);
+        }
+        return img;
+    }
+
+    // Zoom >= 1 px/sel: isi blok tiap sel langsung di raster
+    private BufferedImage renderCells(int z, int tx, int ty) {
+        int n = tileCells(z), cs = (int) ZOOM_LEVELS[z];
+        int r0 = ty * n, c0 = tx * n;
+        int h = Math.min(n, rows - r0), w = Math.min(n, cols - c0);
+        BufferedImage img = new BufferedImage(w * cs, h * cs, BufferedImage.TYPE_INT_RGB);
+        int[] px = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        int stride = w * cs;
+        boolean lines = cs >= 4;
+        for (int r = 0; r < h; r++) {
+            for (int c = 0; c < w; c++) {
+                int shade = shade(r0 + r, c0 + c);
+                int base = r * cs * stride + c * cs;
+                for (int y = 0; y < cs; y++) {
+                    Arrays.fill(px, base + y * stride, base + y * stride + cs, FILL[shade]);
+                }
+                if (lines && shade != 0) {
+                    // Garis grid di sisi atas & kiri (sisi kanan/bawah milik tetangga)
+                    Arrays.fill(px, base, base + cs, LINE[shade]);
+                    for (int y = 1; y < cs; y++) px[base + y * stride] = LINE[shade];
+                }
+            }
+        }
+        return img;
+    }
+
+    // Zoom < 1: rata-rata 2x2 pixel dari 4 tile level yang lebih halus bila
+    // semuanya ada di cache; jika tidak, rata-rata blok sel langsung (satu
+    // pass atas terrain, tanpa merender tile 1 px/sel sebagai perantara)
+    private BufferedImage downsample(int z, int tx, int ty) {
+        int n = tileCells(z), perPx = n / TILE_PX; // Sel per pixel
+        int h = (Math.min(n, rows - ty * n) + perPx - 1) / perPx;
+        int w = (Math.min(n, cols - tx * n) + perPx - 1) / perPx;
+        BufferedImage[] children = new BufferedImage[4];
+        for (int i = 0; i < 4; i++) {
+            int cx = tx * 2 + (i & 1), cy = ty * 2 + (i >> 1);
+            children[i] = tiles.get(key(z + 1, cy, cx));
+            boolean outside = (long) cx * (n / 2) >= cols || (long) cy * (n / 2) >= rows;
+            if (children[i] == null && !outside) return averageCells(z, tx, ty, w, h);
+        }
+
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        int[] out = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        int half = TILE_PX / 2;
+        for (int dy = 0; dy < 2; dy++) {
+            for (int dx = 0; dx < 2; dx++) {
+                BufferedImage child = children[dy * 2 + dx];
+                if (child == null) continue;
+                int[] in = ((DataBufferInt) child.getRaster().getDataBuffer()).getData();
+                int cw = child.getWidth(), ch = child.getHeight();
+                for (int y = 0; y < (ch + 1) / 2; y++) {
+                    for (int x = 0; x < (cw + 1) / 2; x++) {
+                        out[(dy * half + y) * w + dx * half + x] = average(in, cw, ch, x * 2, y * 2);
+                    }
+                }
+            }
+        }
+        return img;
+    }
+
+    private BufferedImage averageCells(int z, int tx, int ty, int w, int h) {
+        int n = tileCells(z), shift = Integer.numberOfTrailingZeros(n / TILE_PX);
+        int r0 = ty * n, c0 = tx * n;
+        int r1 = Math.min(rows, r0 + n), c1 = Math.min(cols, c0 + n);
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        int[] out = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        int[] sumR = new int[w], sumG = new int[w], sumB = new int[w], count = new int[w];
+        for (int y = 0; y < h; y++) {
+            Arrays.fill(sumR, 0);
+            Arrays.fill(sumG, 0);
+            Arrays.fill(sumB, 0);
+            Arrays.fill(count, 0);
+            for (int r = r0 + (y << shift); r < Math.min(r1, r0 + ((y + 1) << shift)); r++) {
+                for (int c = c0; c < c1; c++) {
+                    int p = FILL[shade(r, c)], x = (c - c0) >>> shift;
+                    sumR[x] += (p >>> 16) & 0xFF;
+                    sumG[x] += (p >>> 8) & 0xFF;
+                    sumB[x] += p & 0xFF;
+                    count[x]++;
+                }
+            }
+            for (int x = 0; x < w; x++) {
+                out[y * w + x] = ((sumR[x] / count[x]) << 16) | ((sumG[x] / count[x]) << 8) | (sumB[x] / count[x]);
+            }
+        }
+        return img;
+    }
+
+    // Rata-rata RGB blok 2x2 (di tepi grid bisa kurang dari 4 pixel)
+    private static int average(int[] in, int w, int h, int x, int y) {
+        int r = 0, g = 0, b = 0, count = 0;
+        for (int yy = y; yy < Math.min(h, y + 2); yy++) {
+            for (int xx = x; xx < Math.min(w, x + 2); xx++) {
+                int p = in[yy * w + xx];
+                r += (p >>> 16) & 0xFF;
+                g += (p >>> 8) & 0xFF;
+                b += p & 0xFF;
+                count++;
+            }
+        }
+        return ((r / count) << 16) | ((g / count) << 8) | (b / count);
+    }
+
+    private int shade(int r, int c) {
+        return cells == null ? compact.getType(r * cols + c) : cells[r][c].type;
+    }
+}
@@ -0,0 +1,32 @@
+package Maze;
+
+
+// MinQueue (Antrian Prioritas berbasis ID integer)
+// ID sel = r * cols + c. Dipakai Dijkstra/A* supaya update prioritas
+// tidak perlu pq.remove() yang linear.
+interface MinQueue {
+    // Masukkan id baru, atau turunkan prioritasnya jika sudah ada
+    void insertOrDecrease(int id, double priority);
+
+    // Ambil id dengan prioritas terkecil
+    int poll();
+
+    boolean isEmpty();
+
+    // Jumlah entry di antrian (boleh termasuk entry usang; untuk laporan progress)
+    int size();
+
+    // Prioritas terkecil saat ini (panggil hanya jika !isEmpty())
+    double minPriority();
+
+    // Kosongkan antrian agar bisa dipakai ulang; O(jumlah entry), bukan O(capacity)
+    void clear();
+
+    // Pilihan implementasi untuk solver
+    enum Type {
+        INDEXED,    // 4-ary heap dengan posisi terlacak (decrease-key O(log n))
+        LAZY,       // Binary heap, entry lama dibiarkan dan dilewati saat poll
+        BUCKET,     // Dial's circular bucket queue (khusus bobot integer kecil)
+        JAVA_PQ     // java.util.PriorityQueue + remove/add (perilaku lama, O(n))
+    }
+}
@@ -0,0 +1,191 @@
+package Maze;
+
+import java.util.Arrays;
+
+
+// PackedPath (Path sebagai Urutan Arah 2 Bit)
+// Path disimpan sebagai sel awal + deretan langkah (0=Atas, 1=Bawah,
+// 2=Kiri, 3=Kanan), 32 langkah per long. Path sejuta langkah = ~250 KB,
+// bukan sejuta referensi Cell. Koordinat dihasilkan saat iterasi lewat
+// Cursor (tanpa objek per langkah).
+//
+// Kelas nested Moves adalah array 2 bit per sel yang dipakai solver sebagai
+// parent pointer: kode = arah langkah dari parent ke sel tersebut.
+class PackedPath {
+    static final int UP = 0, DOWN = 1, LEFT = 2, RIGHT = 3;
+
+    static final PackedPath EMPTY = new PackedPath(-1, 1, 0, new long[0]);
+
+    final int cols;
+    private final int start;   // id sel pertama (r * cols + c), -1 jika kosong
+    private final int length;  // Jumlah sel (langkah = length - 1)
+    private final long[] moves;
+
+    PackedPath(int start, int cols, int length, long[] moves) {
+        this.start = start;
+        this.cols = cols;
+        this.length = length;
+        this.moves = moves;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public int first() {
+        return start;
+    }
+
+    public int move(int step) {
+        return (int) (moves[step >>> 5] >>> ((step & 31) << 1)) & 3;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    // Iterasi id sel dari awal ke akhir
+    final class Cursor {
+        private int index, id = start;
+
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        public int next() {
+            if (index > 0) id += delta(move(index - 1), cols);
+            index++;
+            return id;
+        }
+    }
+
+    // Total bobot (sama dengan PathAlgorithms.calculatePathCost, start ikut dihitung)
+    public double cost(Cell[][] grid) {
+        if (length == 0) return 0;
+        int r = start / cols, c = start % cols; // Baris/kolom diikuti per langkah, tanpa bagi
+        double total = grid[r][c].getWeight();
+        for (int step = 0; step < length - 1; step++) {
+            switch (move(step)) {
+                case UP: r--; break;
+                case DOWN: r++; break;
+                case LEFT: c--; break;
+                default: c++;
+            }
+            total += grid[r][c].getWeight();
+        }
+        return total;
+    }
+
+    public double cost(CompactGrid grid) {
+        double total = 0;
+        for (Cursor it = cursor(); it.hasNext(); ) total += grid.getWeight(it.next());
+        return total;
+    }
+
+    // ---------------------------------------------
+    // Helper arah
+    // ---------------------------------------------
+    static int delta(int move, int cols) {
+        switch (move) {
+            case UP: return -cols;
+            case DOWN: return cols;
+            case LEFT: return -1;
+            default: return 1;
+        }
+    }
+
+    // Arah langkah from -> to (harus bertetangga)
+    static int direction(int from, int to, int cols) {
+        int d = to - from;
+        if (d == -cols) return UP;
+        if (d == cols) return DOWN;
+        if (d == -1) return LEFT;
+        if (d == 1) return RIGHT;
+        throw new IllegalArgumentException("Cells are not adjacent: " + from + " -> " + to);
+    }
+
+    static int opposite(int move) {
+        return move ^ 1; // UP<->DOWN, LEFT<->RIGHT
+    }
+
+    static void setMove(long[] moves, int step, int move) {
+        int shift = (step & 31) << 1;
+        moves[step >>> 5] = (moves[step >>> 5] & ~(3L << shift)) | ((long) move << shift);
+    }
+
+    // Jejak mundur dari end ke start mengikuti kode parent, lalu tulis langkah
+    // dari belakang: dua pass O(panjang path), tanpa add(0, ...).
+    static PackedPath trace(Moves parents, int start, int end, int cols) {
+        int steps = 0;
+        for (int id = end; id != start; id -= delta(parents.get(id), cols)) steps++;
+        long[] moves = new long[(steps + 31) >>> 5];
+        int id = end;
+        for (int step = steps - 1; step >= 0; step--) {
+            int move = parents.get(id);
+            setMove(moves, step, move);
+            id -= delta(move, cols);
+        }
+        return new PackedPath(start, cols, steps + 1, moves);
+    }
+
+    // Penyusun path maju (untuk path yang dibangun berurutan, mis. HPA*/LPA*)
+    static final class Builder {
+        private final int cols;
+        private int start = -1, last, length;
+        private long[] moves = new long[4];
+
+        Builder(int cols) {
+            this.cols = cols;
+        }
+
+        Builder add(int id) {
+            if (length == 0) {
+                start = last = id;
+                length = 1;
+                return this;
+            }
+            return addMove(direction(last, id, cols));
+        }
+
+        // Tambah satu langkah dari sel terakhir (builder tidak boleh kosong)
+        Builder addMove(int move) {
+            int step = length - 1;
+            if (step >>> 5 >= moves.length) moves = Arrays.copyOf(moves, moves.length * 2);
+            setMove(moves, step, move);
+            last += delta(move, cols);
+            length++;
+            return this;
+        }
+
+        Builder addAll(PackedPath path) {
+            for (Cursor it = path.cursor(); it.hasNext(); ) add(it.next());
+            return this;
+        }
+
+        PackedPath build() {
+            if (length == 0) return EMPTY;
+            return new PackedPath(start, cols, length, Arrays.copyOf(moves, (length - 1 + 31) >>> 5));
+        }
+    }
+
+    // Array kode arah 2 bit per sel (parent pointer ringkas: 16x lebih kecil dari int[])
+    static final class Moves {
+        private final long[] bits;
+
+        Moves(int size) {
+            bits = new long[(size + 31) >>> 5];
+        }
+
+        int get(int id) {
+            return (int) (bits[id >>> 5] >>> ((id & 31) << 1)) & 3;
+        }
+
+        void set(int id, int move) {
+            setMove(bits, id, move);
+        }
+    }
+}
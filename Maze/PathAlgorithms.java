@@ -2,35 +2,25 @@ package Maze;
 
 import java.util.*;
 import java.util.List;
+import java.util.function.ToDoubleBiFunction;
 
 // PathAlgorithms (Logika Pencarian)
+// Solver Cell[][] hanya membaca Cell.type; gCost/parent disimpan di
+// SearchContext. Overload tanpa context mengambil context dari pool.
+// Urutan ekspansi tidak disimpan di Result, tapi di-stream ke
+// SearchListener milik context (default NONE = tidak di-capture).
 
 class PathAlgorithms {
 
     // Objek untuk menyimpan hasil algoritma
     public static class Result {
-        List<Cell> visitedOrder = new ArrayList<>();
-        List<Cell> path = new ArrayList<>();
-    }
-
-    // Helper: Reconstruct path dari parent pointer
-    private static List<Cell> reconstructPath(Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell curr = end;
-        while (curr != null) {
-            path.add(0, curr);
-            curr = curr.parent;
-        }
-        return path;
+        int expanded;                   // Jumlah sel yang di-expand
+        PackedPath path = PackedPath.EMPTY; // id sel r * cols + c, lihat PackedPath
     }
     
-    // 5. Total Cost Calculator
-    public static double calculatePathCost(List<Cell> path) {
-        double total = 0;
-        for(Cell c : path) {
-            total += c.getWeight();
-        }
-        return total;
+    // 5. Total Cost Calculator (langsung dari langkah terpaket, tanpa objek per sel)
+    public static double calculatePathCost(Cell[][] grid, PackedPath path) {
+        return path.cost(grid);
     }
 
     // Helper: Ambil tetangga valid (bukan tembok)
@@ -50,132 +40,777 @@ class PathAlgorithms {
         return list;
     }
 
+    // Helper: Mulai pencarian baru di context (reset O(1))
+    private static void begin(SearchContext ctx, Cell[][] grid) {
+        if (ctx.size != grid.length * grid[0].length) {
+            throw new IllegalArgumentException("SearchContext size " + ctx.size
+                + " does not match the " + grid.length + "x" + grid[0].length + " grid");
+        }
+        ctx.begin();
+    }
+
+    private static SearchContext acquire(Cell[][] grid) {
+        return SearchContext.acquire(grid.length * grid[0].length);
+    }
+
     // (A) BFS
     public static Result solveBFS(Cell[][] grid, Cell start, Cell end) {
+        try (SearchContext ctx = acquire(grid)) {
+            return solveBFS(grid, start, end, ctx);
+        }
+    }
+
+    public static Result solveBFS(Cell[][] grid, Cell start, Cell end, SearchContext ctx) {
+        return solveUnweighted(grid, start, end, ctx, false);
+    }
+
+    // (B) DFS
+    public static Result solveDFS(Cell[][] grid, Cell start, Cell end) {
+        try (SearchContext ctx = acquire(grid)) {
+            return solveDFS(grid, start, end, ctx);
+        }
+    }
+
+    public static Result solveDFS(Cell[][] grid, Cell start, Cell end, SearchContext ctx) {
+        return solveUnweighted(grid, start, end, ctx, true);
+    }
+
+    // BFS & DFS hanya beda cara mengambil dari frontier (depan / belakang)
+    private static Result solveUnweighted(Cell[][] grid, Cell start, Cell end,
+                                          SearchContext ctx, boolean depthFirst) {
         Result res = new Result();
-        Queue<Cell> queue = new LinkedList<>();
-        Set<Cell> visited = new HashSet<>();
+        begin(ctx, grid);
+        int cols = grid[0].length;
+        IntQueue frontier = ctx.frontier;
         
-        queue.add(start);
-        visited.add(start);
+        int s = start.r * cols + start.c, t = end.r * cols + end.c;
+        frontier.add(s);
+        ctx.set(s, 0, NONE); // seen() = sudah masuk frontier
         
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            res.visitedOrder.add(current);
+        while (!frontier.isEmpty()) {
+            int id = depthFirst ? frontier.pop() : frontier.poll();
+            Cell current = grid[id / cols][id % cols];
+            res.expanded++;
+            ctx.listener.expanded(id, false);
             
-            if (current == end) {
-                res.path = reconstructPath(end);
+            if (id == t) {
+                res.path = ctx.trace(s, t, cols);
                 return res;
             }
             
             for (Cell neighbor : getNeighbors(grid, current)) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    neighbor.parent = current;
-                    queue.add(neighbor);
+                int nid = neighbor.r * cols + neighbor.c;
+                if (!ctx.seen(nid)) {
+                    ctx.set(nid, 0, PackedPath.direction(id, nid, cols));
+                    frontier.add(nid);
                 }
             }
         }
         return res; // Tidak ketemu
     }
 
-    // (B) DFS
-    public static Result solveDFS(Cell[][] grid, Cell start, Cell end) {
+    // (C) Dijkstra
+    public static Result solveDijkstra(Cell[][] grid, Cell start, Cell end) {
+        return solveDijkstra(grid, start, end, MinQueue.Type.INDEXED);
+    }
+
+    public static Result solveDijkstra(Cell[][] grid, Cell start, Cell end, MinQueue.Type queueType) {
+        try (SearchContext ctx = acquire(grid)) {
+            return solveDijkstra(grid, start, end, queueType, ctx);
+        }
+    }
+
+    public static Result solveDijkstra(Cell[][] grid, Cell start, Cell end, MinQueue.Type queueType,
+                                       SearchContext ctx) {
+        return solveAStar(grid, start, end, queueType, ctx, (a, b) -> 0); // Dijkstra = A* dengan h = 0
+    }
+
+    // (E) Dial's Algorithm (Dijkstra dengan bucket queue)
+    // Path cost identik dengan Dijkstra, tetapi push/poll O(1).
+    public static Result solveDial(Cell[][] grid, Cell start, Cell end) {
+        return solveDijkstra(grid, start, end, MinQueue.Type.BUCKET);
+    }
+
+    // (D) A* (A Star)
+    public static Result solveAStar(Cell[][] grid, Cell start, Cell end) {
+        return solveAStar(grid, start, end, MinQueue.Type.INDEXED);
+    }
+
+    public static Result solveAStar(Cell[][] grid, Cell start, Cell end, MinQueue.Type queueType) {
+        try (SearchContext ctx = acquire(grid)) {
+            return solveAStar(grid, start, end, queueType, ctx);
+        }
+    }
+
+    public static Result solveAStar(Cell[][] grid, Cell start, Cell end, MinQueue.Type queueType,
+                                    SearchContext ctx) {
+        return solveAStar(grid, start, end, queueType, ctx, PathAlgorithms::manhattan); // Manhattan
+    }
+
+    // (H) A* dengan heuristik landmark (ALT), lihat LandmarkHeuristic
+    public static Result solveAStarALT(Cell[][] grid, Cell start, Cell end, LandmarkHeuristic alt) {
+        try (SearchContext ctx = acquire(grid)) {
+            return solveAStarALT(grid, start, end, alt, ctx);
+        }
+    }
+
+    public static Result solveAStarALT(Cell[][] grid, Cell start, Cell end, LandmarkHeuristic alt,
+                                       SearchContext ctx) {
+        return solveAStar(grid, start, end, MinQueue.Type.INDEXED, ctx, alt::estimate);
+    }
+
+    private static Result solveAStar(Cell[][] grid, Cell start, Cell end, MinQueue.Type queueType,
+                                     SearchContext ctx, ToDoubleBiFunction<Cell, Cell> heuristic) {
         Result res = new Result();
-        Stack<Cell> stack = new Stack<>();
-        Set<Cell> visited = new HashSet<>();
+        begin(ctx, grid);
+        int cols = grid[0].length;
+        MinQueue pq = ctx.queue(queueType);
         
-        stack.push(start);
-        visited.add(start);
+        int s = start.r * cols + start.c, t = end.r * cols + end.c;
+        ctx.set(s, 0, NONE);
+        pq.insertOrDecrease(s, heuristic.applyAsDouble(start, end));
         
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-            res.visitedOrder.add(current);
+        while (!pq.isEmpty()) {
+            int id = pq.poll();
+            Cell current = grid[id / cols][id % cols];
+            res.expanded++;
+            ctx.listener.expanded(id, false);
             
-            if (current == end) {
-                res.path = reconstructPath(end);
+            if (id == t) {
+                res.path = ctx.trace(s, t, cols);
                 return res;
             }
             
+            double g = ctx.gCost(id);
             for (Cell neighbor : getNeighbors(grid, current)) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    neighbor.parent = current;
-                    stack.push(neighbor);
+                int nid = neighbor.r * cols + neighbor.c;
+                double newGCost = g + neighbor.getWeight();
+                
+                if (newGCost < ctx.gCost(nid)) {
+                    ctx.set(nid, newGCost, PackedPath.direction(id, nid, cols));
+                    // Decrease-key (O(log n) untuk INDEXED/LAZY)
+                    pq.insertOrDecrease(nid, newGCost + heuristic.applyAsDouble(neighbor, end));
                 }
             }
         }
         return res;
     }
 
-    // (C) Dijkstra
-    public static Result solveDijkstra(Cell[][] grid, Cell start, Cell end) {
+    // (G) Bidirectional Dijkstra & A*
+    // Dua front: maju dari start, mundur dari end. Tiap front punya
+    // SearchContext sendiri karena tiap sel punya dua gCost.
+    // Biaya masuk sel v = weight(v), jadi di graf terbalik biaya x -> y = weight(x).
+    public static Result solveBiDijkstra(Cell[][] grid, Cell start, Cell end) {
+        try (SearchContext fwd = acquire(grid); SearchContext bwd = acquire(grid)) {
+            return solveBiDijkstra(grid, start, end, fwd, bwd);
+        }
+    }
+
+    public static Result solveBiDijkstra(Cell[][] grid, Cell start, Cell end,
+                                         SearchContext fwd, SearchContext bwd) {
+        return solveBidirectional(grid, start, end, false, fwd, bwd);
+    }
+
+    public static Result solveBiAStar(Cell[][] grid, Cell start, Cell end) {
+        try (SearchContext fwd = acquire(grid); SearchContext bwd = acquire(grid)) {
+            return solveBiAStar(grid, start, end, fwd, bwd);
+        }
+    }
+
+    public static Result solveBiAStar(Cell[][] grid, Cell start, Cell end,
+                                      SearchContext fwd, SearchContext bwd) {
+        return solveBidirectional(grid, start, end, true, fwd, bwd);
+    }
+
+    private static Result solveBidirectional(Cell[][] grid, Cell start, Cell end, boolean useHeuristic,
+                                             SearchContext fwdCtx, SearchContext bwdCtx) {
         Result res = new Result();
-        PriorityQueue<Cell> pq = new PriorityQueue<>();
-        
-        start.gCost = 0;
-        start.fCost = 0;
-        pq.add(start);
-        
+        begin(fwdCtx, grid);
+        begin(bwdCtx, grid);
+        int cols = grid[0].length;
+        MinQueue fwd = fwdCtx.queue(MinQueue.Type.INDEXED), bwd = bwdCtx.queue(MinQueue.Type.INDEXED);
+
+        int s = start.r * cols + start.c, t = end.r * cols + end.c;
+        fwdCtx.set(s, 0, NONE);
+        bwdCtx.set(t, 0, NONE);
+        fwd.insertOrDecrease(s, potential(start, start, end, useHeuristic));
+        bwd.insertOrDecrease(t, -potential(end, start, end, useHeuristic));
+
+        double best = (s == t) ? 0 : Double.MAX_VALUE; // mu: biaya path terbaik sejauh ini
+        int meet = (s == t) ? s : NONE;
+
+        while (!fwd.isEmpty() && !bwd.isEmpty()) {
+            double topF = fwd.minPriority(), topB = bwd.minPriority();
+            // Kriteria berhenti: topF + topB >= mu. Berlaku juga untuk A* karena
+            // potensial maju/mundur saling meniadakan (lihat potential()).
+            if (topF + topB >= best) break;
+
+            boolean forward = topF <= topB;
+            int id = forward ? fwd.poll() : bwd.poll();
+            Cell current = grid[id / cols][id % cols];
+            res.expanded++;
+            fwdCtx.listener.expanded(id, !forward); // Listener front maju menerima kedua arah
+
+            SearchContext ctx = forward ? fwdCtx : bwdCtx;
+            SearchContext other = forward ? bwdCtx : fwdCtx;
+            MinQueue pq = forward ? fwd : bwd;
+            double g = ctx.gCost(id);
+
+            for (Cell neighbor : getNeighbors(grid, current)) {
+                int nid = neighbor.r * cols + neighbor.c;
+                double step = forward ? neighbor.getWeight() : current.getWeight();
+                double newCost = g + step;
+                if (newCost < ctx.gCost(nid)) {
+                    ctx.set(nid, newCost, PackedPath.direction(id, nid, cols));
+                    double p = potential(neighbor, start, end, useHeuristic);
+                    pq.insertOrDecrease(nid, newCost + (forward ? p : -p));
+                    // Kedua front bertemu di neighbor: update mu
+                    double otherCost = other.gCost(nid);
+                    if (otherCost != Double.MAX_VALUE && newCost + otherCost < best) {
+                        best = newCost + otherCost;
+                        meet = nid;
+                    }
+                }
+            }
+        }
+
+        if (meet != NONE) {
+            // start -> meet (parent maju), lalu meet -> end (parent mundur, arah dibalik)
+            PackedPath.Builder path = new PackedPath.Builder(cols).addAll(fwdCtx.trace(s, meet, cols));
+            for (int id = meet; id != t; ) {
+                int move = bwdCtx.parentMove(id);
+                path.addMove(PackedPath.opposite(move));
+                id -= PackedPath.delta(move, cols);
+            }
+            res.path = path.build();
+        }
+        return res;
+    }
+
+    // Potensial rata-rata (h_end - h_start) / 2: konsisten untuk kedua arah.
+    // Tiap manhattan berubah maks 1 per langkah, jadi selisihnya maks 2 dan
+    // potensial berubah maks 1, tidak lebih dari biaya langkah (bobot min 1).
+    // Potensial mundur = -maju.
+    // Dengan begitu bidirectional A* = bidirectional Dijkstra pada reduced cost.
+    private static double potential(Cell v, Cell start, Cell end, boolean useHeuristic) {
+        if (!useHeuristic) return 0;
+        return (manhattan(v, end) - manhattan(v, start)) / 2.0;
+    }
+
+    private static int manhattan(Cell a, Cell b) {
+        return Math.abs(a.r - b.r) + Math.abs(a.c - b.c);
+    }
+
+    // (F) Jump Point Search (4 arah, khusus terrain seragam)
+    // Lompat lurus sepanjang koridor dan hanya expand "jump point"
+    // (sel dengan tetangga paksa / cabang). Jika bobot terrain berbeda-beda,
+    // JPS tidak lagi optimal, jadi fallback ke A* biasa.
+    public static Result solveJPS(Cell[][] grid, Cell start, Cell end) {
+        try (SearchContext ctx = acquire(grid)) {
+            return solveJPS(grid, start, end, ctx);
+        }
+    }
+
+    public static Result solveJPS(Cell[][] grid, Cell start, Cell end, SearchContext ctx) {
+        int weight = uniformWeight(grid);
+        if (weight < 0) return solveAStar(grid, start, end, MinQueue.Type.INDEXED, ctx); // Fallback
+
+        Result res = new Result();
+        begin(ctx, grid);
+        int cols = grid[0].length;
+        MinQueue pq = ctx.queue(MinQueue.Type.INDEXED);
+
+        int s = start.r * cols + start.c, t = end.r * cols + end.c;
+        ctx.set(s, 0, NONE);
+        pq.insertOrDecrease(s, manhattan(start, end) * weight);
+
+        int[][] dirs = new int[4][];
         while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-            res.visitedOrder.add(current);
-            
-            if (current == end) {
-                res.path = reconstructPath(end);
+            int id = pq.poll();
+            Cell current = grid[id / cols][id % cols];
+            res.expanded++;
+            ctx.listener.expanded(id, false);
+
+            if (id == t) {
+                res.path = traceJumps(ctx, s, t, cols, weight);
                 return res;
             }
-            
-            for (Cell neighbor : getNeighbors(grid, current)) {
-                double newCost = current.gCost + neighbor.getWeight();
-                if (newCost < neighbor.gCost) {
-                    neighbor.gCost = newCost;
-                    neighbor.fCost = newCost; // Dijkstra f = g
-                    neighbor.parent = current;
-                    
-                    // Remove & Add untuk update prioritas
-                    pq.remove(neighbor);
-                    pq.add(neighbor);
+
+            int n = prunedDirections(id == s ? NONE : ctx.parentMove(id), dirs);
+            for (int i = 0; i < n; i++) {
+                Cell jp = jump(grid, current.r + dirs[i][0], current.c + dirs[i][1], dirs[i][0], dirs[i][1], end);
+                if (jp == null) continue;
+
+                int jid = jp.r * cols + jp.c;
+                int dist = Math.abs(jp.r - current.r) + Math.abs(jp.c - current.c);
+                double newGCost = ctx.gCost(id) + dist * weight;
+                if (newGCost < ctx.gCost(jid)) {
+                    ctx.set(jid, newGCost, moveOf(dirs[i])); // Arah lompatan
+                    pq.insertOrDecrease(jid, newGCost + manhattan(jp, end) * weight);
                 }
             }
         }
         return res;
     }
 
-    // (D) A* (A Star)
-    public static Result solveAStar(Cell[][] grid, Cell start, Cell end) {
+    // Bobot seragam semua sel terbuka, atau -1 jika terrain campuran
+    private static int uniformWeight(Cell[][] grid) {
+        int weight = -1;
+        for (Cell[] row : grid) {
+            for (Cell cell : row) {
+                if (cell.type == 0) continue;
+                if (weight < 0) weight = cell.getWeight();
+                else if (cell.getWeight() != weight) return -1;
+            }
+        }
+        return weight;
+    }
+
+    private static boolean walkable(Cell[][] grid, int r, int c) {
+        return r >= 0 && r < grid.length && c >= 0 && c < grid[0].length && grid[r][c].type != 0;
+    }
+
+    private static final int[] UP = {-1, 0}, DOWN = {1, 0}, LEFT = {0, -1}, RIGHT = {0, 1};
+
+    private static int moveOf(int[] dir) {
+        if (dir == UP) return PackedPath.UP;
+        if (dir == DOWN) return PackedPath.DOWN;
+        return dir == LEFT ? PackedPath.LEFT : PackedPath.RIGHT;
+    }
+
+    // Arah yang perlu dicoba dari sebuah jump point (pruning berdasarkan arah datang)
+    private static int prunedDirections(int cameFrom, int[][] out) {
+        if (cameFrom == NONE) {
+            out[0] = UP; out[1] = DOWN; out[2] = LEFT; out[3] = RIGHT;
+            return 4;
+        }
+        if (cameFrom == PackedPath.LEFT || cameFrom == PackedPath.RIGHT) {
+            // Datang horizontal: lanjut lurus + belok atas/bawah
+            out[0] = cameFrom == PackedPath.RIGHT ? RIGHT : LEFT; out[1] = UP; out[2] = DOWN;
+        } else {
+            // Datang vertikal: lanjut lurus + belok kiri/kanan
+            out[0] = cameFrom == PackedPath.DOWN ? DOWN : UP; out[1] = LEFT; out[2] = RIGHT;
+        }
+        return 3;
+    }
+
+    // Lompat lurus dari (r,c) ke arah (dr,dc) sampai ketemu jump point.
+    // Iteratif (bukan rekursif) agar koridor panjang tidak stack overflow.
+    private static Cell jump(Cell[][] grid, int r, int c, int dr, int dc, Cell end) {
+        while (walkable(grid, r, c)) {
+            Cell cell = grid[r][c];
+            if (cell == end) return cell;
+
+            if (dc != 0) {
+                // Tetangga paksa: atas/bawah terbuka padahal di belakangnya tembok
+                if ((walkable(grid, r - 1, c) && !walkable(grid, r - 1, c - dc)) ||
+                    (walkable(grid, r + 1, c) && !walkable(grid, r + 1, c - dc))) {
+                    return cell;
+                }
+            } else {
+                if ((walkable(grid, r, c - 1) && !walkable(grid, r - dr, c - 1)) ||
+                    (walkable(grid, r, c + 1) && !walkable(grid, r - dr, c + 1))) {
+                    return cell;
+                }
+                // Saat bergerak vertikal, cek cabang horizontal
+                if (jump(grid, r, c + 1, 0, 1, end) != null || jump(grid, r, c - 1, 0, -1, end) != null) {
+                    return cell;
+                }
+            }
+            r += dr;
+            c += dc;
+        }
+        return null;
+    }
+
+    // Path JPS: parent jump point hanya disimpan sebagai arah. Mundur lurus ke
+    // arah itu sampai sel seen dengan g = g(jp) - k * weight (jump parent, atau
+    // sel lain di segmen yang sama dengan biaya setara). Dua pass seperti
+    // PackedPath.trace; sel lurus di antara jump point ikut terisi.
+    private static PackedPath traceJumps(SearchContext ctx, int s, int t, int cols, int weight) {
+        int steps = 0;
+        for (int id = t; id != s; ) {
+            int k = jumpBack(ctx, id, cols, weight);
+            steps += k;
+            id -= k * PackedPath.delta(ctx.parentMove(id), cols);
+        }
+        long[] moves = new long[(steps + 31) >>> 5];
+        int step = steps;
+        for (int id = t; id != s; ) {
+            int move = ctx.parentMove(id);
+            int k = jumpBack(ctx, id, cols, weight);
+            for (int i = 0; i < k; i++) PackedPath.setMove(moves, --step, move);
+            id -= k * PackedPath.delta(move, cols);
+        }
+        return new PackedPath(s, cols, steps + 1, moves);
+    }
+
+    private static int jumpBack(SearchContext ctx, int id, int cols, int weight) {
+        int d = PackedPath.delta(ctx.parentMove(id), cols);
+        double g = ctx.gCost(id);
+        int k = 1;
+        while (!ctx.seen(id - k * d) || ctx.gCost(id - k * d) + k * weight != g) k++;
+        return k;
+    }
+
+    // Helper: Buat antrian prioritas sesuai pilihan
+    static MinQueue newQueue(MinQueue.Type type, int n) {
+        switch (type) {
+            case LAZY: return new LazyMinHeap(n);
+            // Bobot terbesar + 1 agar f = g + h (A*, Manhattan) tetap muat
+            case BUCKET: return new BucketQueue(n, Cell.COST_WATER + 1);
+            case JAVA_PQ: return new JavaPriorityQueue(n);
+            default: return new IndexedMinHeap(n);
+        }
+    }
+
+    // Perilaku lama: PriorityQueue<Cell> + remove/add (scan linear).
+    // Disimpan sebagai pembanding di QueueBenchmark.
+    private static class JavaPriorityQueue implements MinQueue {
+        private final double[] prio;
+        private final PriorityQueue<Integer> pq;
+
+        JavaPriorityQueue(int capacity) {
+            prio = new double[capacity];
+            pq = new PriorityQueue<>((a, b) -> Double.compare(prio[a], prio[b]));
+        }
+
+        @Override
+        public void insertOrDecrease(int id, double priority) {
+            pq.remove(id); // Scan linear, keluarkan dulu sebelum prioritas diubah
+            prio[id] = priority;
+            pq.add(id);
+        }
+
+        @Override
+        public int poll() {
+            return pq.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return pq.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return pq.size();
+        }
+
+        @Override
+        public double minPriority() {
+            return prio[pq.peek()];
+        }
+
+        @Override
+        public void clear() {
+            pq.clear();
+        }
+    }
+
+    // ---------------------------------------------
+    // Versi CompactGrid (Struct-of-Arrays)
+    // ---------------------------------------------
+    // Semantik sama dengan versi Cell[][], tetapi state pencarian disimpan di
+    // array primitif paralel (index r*cols+c), bukan di dalam objek Cell.
+
+    // Hasil untuk CompactGrid: index sel, bukan objek Cell
+    public static class GridResult {
+        int[] visitedOrder;     // null jika recordVisits = false
+        int expanded;           // Jumlah sel yang di-expand
+        PackedPath path = PackedPath.EMPTY;
+
+        void visit(int idx) {
+            if (visitedOrder != null) {
+                if (expanded == visitedOrder.length) {
+                    visitedOrder = Arrays.copyOf(visitedOrder, expanded * 2);
+                }
+                visitedOrder[expanded] = idx;
+            }
+            expanded++;
+        }
+    }
+
+    private static final int NONE = -1;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private static GridResult newGridResult(boolean recordVisits) {
+        GridResult res = new GridResult();
+        if (recordVisits) res.visitedOrder = new int[64];
+        return res;
+    }
+
+    public static double calculatePathCost(CompactGrid grid, PackedPath path) {
+        return path.cost(grid);
+    }
+
+    // Adapter: ubah GridResult ke Result agar path bisa ditampilkan MazePanel
+    public static Result toCellResult(GridResult gr) {
         Result res = new Result();
-        PriorityQueue<Cell> pq = new PriorityQueue<>();
-        
-        start.gCost = 0;
-        start.hCost = Math.abs(start.r - end.r) + Math.abs(start.c - end.c); // Manhattan
-        start.fCost = start.gCost + start.hCost;
-        pq.add(start);
-        
+        res.expanded = gr.expanded;
+        res.path = gr.path; // id sama (r * cols + c)
+        return res;
+    }
+
+    // Scratch state untuk satu pencarian CompactGrid. Bisa dipakai ulang antar
+    // query (mis. dipinjam per task daun di BatchSolver) agar tidak alokasi O(n) tiap solve.
+    // Parent = kode arah 2 bit (bukan int), penanda visited BFS/DFS = 1 bit.
+    static final class Workspace {
+        final int size;
+        final PackedPath.Moves parent;    // Arah langkah parent -> sel
+        private final long[] seen;        // BFS/DFS: sel sudah ditemukan
+        private int[] gCost;              // Dialokasikan saat solve berbobot pertama
+        final IntQueue queue = new IntQueue();
+        final LongMinHeap heap = new LongMinHeap();
+        final int[] nb = new int[4];
+
+        Workspace(int size) {
+            this.size = size;
+            parent = new PackedPath.Moves(size);
+            seen = new long[(size + 63) >>> 6];
+        }
+
+        int[] gCost() {
+            if (gCost == null) gCost = new int[size];
+            return gCost;
+        }
+
+        // Tandai id sebagai ditemukan; false jika sudah sebelumnya
+        boolean mark(int id) {
+            long bit = 1L << id;
+            if ((seen[id >>> 6] & bit) != 0) return false;
+            seen[id >>> 6] |= bit;
+            return true;
+        }
+
+        void clear(boolean weighted) {
+            if (weighted) Arrays.fill(gCost(), INF);
+            else Arrays.fill(seen, 0);
+            queue.clear();
+            heap.clear();
+        }
+    }
+
+    // (A) BFS
+    public static GridResult solveBFS(CompactGrid grid, int start, int end, boolean recordVisits) {
+        return solveBFS(grid, start, end, recordVisits, new Workspace(grid.size()));
+    }
+
+    public static GridResult solveBFS(CompactGrid grid, int start, int end, boolean recordVisits, Workspace ws) {
+        GridResult res = newGridResult(recordVisits);
+        ws.clear(false);
+        PackedPath.Moves parent = ws.parent;
+        IntQueue queue = ws.queue;
+        int[] nb = ws.nb;
+
+        queue.add(start);
+        ws.mark(start);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            res.visit(current);
+
+            if (current == end) {
+                res.path = PackedPath.trace(parent, start, end, grid.cols);
+                return res;
+            }
+
+            int n = grid.neighbors(current, nb);
+            for (int i = 0; i < n; i++) {
+                int neighbor = nb[i];
+                if (ws.mark(neighbor)) {
+                    parent.set(neighbor, PackedPath.direction(current, neighbor, grid.cols));
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return res; // Tidak ketemu
+    }
+
+    // (B) DFS
+    public static GridResult solveDFS(CompactGrid grid, int start, int end, boolean recordVisits) {
+        return solveDFS(grid, start, end, recordVisits, new Workspace(grid.size()));
+    }
+
+    public static GridResult solveDFS(CompactGrid grid, int start, int end, boolean recordVisits, Workspace ws) {
+        GridResult res = newGridResult(recordVisits);
+        ws.clear(false);
+        PackedPath.Moves parent = ws.parent;
+        IntQueue stack = ws.queue;
+        int[] nb = ws.nb;
+
+        stack.push(start);
+        ws.mark(start);
+
+        while (!stack.isEmpty()) {
+            int current = stack.pop();
+            res.visit(current);
+
+            if (current == end) {
+                res.path = PackedPath.trace(parent, start, end, grid.cols);
+                return res;
+            }
+
+            int n = grid.neighbors(current, nb);
+            for (int i = 0; i < n; i++) {
+                int neighbor = nb[i];
+                if (ws.mark(neighbor)) {
+                    parent.set(neighbor, PackedPath.direction(current, neighbor, grid.cols));
+                    stack.push(neighbor);
+                }
+            }
+        }
+        return res;
+    }
+
+    // (C) Dijkstra
+    public static GridResult solveDijkstra(CompactGrid grid, int start, int end, boolean recordVisits) {
+        return solveDijkstra(grid, start, end, recordVisits, new Workspace(grid.size()));
+    }
+
+    public static GridResult solveDijkstra(CompactGrid grid, int start, int end, boolean recordVisits, Workspace ws) {
+        return solveWeighted(grid, start, end, recordVisits, false, ws);
+    }
+
+    // (D) A* (Manhattan)
+    public static GridResult solveAStar(CompactGrid grid, int start, int end, boolean recordVisits) {
+        return solveAStar(grid, start, end, recordVisits, new Workspace(grid.size()));
+    }
+
+    public static GridResult solveAStar(CompactGrid grid, int start, int end, boolean recordVisits, Workspace ws) {
+        return solveWeighted(grid, start, end, recordVisits, true, ws);
+    }
+
+    // Dijkstra & A* berbagi loop yang sama; A* hanya menambah heuristik.
+    // gCost integer karena semua bobot terrain integer.
+    private static GridResult solveWeighted(CompactGrid grid, int start, int end,
+                                            boolean recordVisits, boolean useHeuristic, Workspace ws) {
+        GridResult res = newGridResult(recordVisits);
+        ws.clear(true);
+        PackedPath.Moves parent = ws.parent;
+        int[] gCost = ws.gCost();
+        LongMinHeap pq = ws.heap;
+        int[] nb = ws.nb;
+        int endR = grid.row(end), endC = grid.col(end);
+
+        gCost[start] = 0;
+        pq.push(start, useHeuristic ? manhattan(grid, start, endR, endC) : 0);
+
         while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-            res.visitedOrder.add(current);
-            
+            long top = pq.pop();
+            int current = LongMinHeap.id(top);
+            int f = LongMinHeap.priority(top);
+            int h = useHeuristic ? manhattan(grid, current, endR, endC) : 0;
+            if (f > gCost[current] + h) continue; // Entry usang (sudah ada yang lebih murah)
+            res.visit(current);
+
             if (current == end) {
-                res.path = reconstructPath(end);
+                res.path = PackedPath.trace(parent, start, end, grid.cols);
                 return res;
             }
-            
-            for (Cell neighbor : getNeighbors(grid, current)) {
-                double newGCost = current.gCost + neighbor.getWeight();
-                
-                if (newGCost < neighbor.gCost) {
-                    neighbor.gCost = newGCost;
-                    neighbor.hCost = Math.abs(neighbor.r - end.r) + Math.abs(neighbor.c - end.c);
-                    neighbor.fCost = neighbor.gCost + neighbor.hCost;
-                    neighbor.parent = current;
-                    
-                    pq.remove(neighbor);
-                    pq.add(neighbor);
+
+            int n = grid.neighbors(current, nb);
+            for (int i = 0; i < n; i++) {
+                int neighbor = nb[i];
+                int newCost = gCost[current] + grid.getWeight(neighbor);
+                if (newCost < gCost[neighbor]) {
+                    gCost[neighbor] = newCost;
+                    parent.set(neighbor, PackedPath.direction(current, neighbor, grid.cols));
+                    int hn = useHeuristic ? manhattan(grid, neighbor, endR, endC) : 0;
+                    pq.push(neighbor, newCost + hn);
                 }
             }
         }
         return res;
     }
-}
 
+    private static int manhattan(CompactGrid grid, int idx, int endR, int endC) {
+        return Math.abs(grid.row(idx) - endR) + Math.abs(grid.col(idx) - endC);
+    }
+
+    // Antrian/stack int tanpa boxing (ring buffer yang bisa membesar)
+    static final class IntQueue {
+        private int[] data = new int[64];
+        private int head, size;
+
+        boolean isEmpty() { return size == 0; }
+        int size() { return size; }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        void add(int v) {
+            grow();
+            data[(head + size) & (data.length - 1)] = v;
+            size++;
+        }
+
+        void push(int v) { add(v); }
+
+        // Ambil dari depan (FIFO)
+        int poll() {
+            int v = data[head];
+            head = (head + 1) & (data.length - 1);
+            size--;
+            return v;
+        }
+
+        // Ambil dari belakang (LIFO)
+        int pop() {
+            size--;
+            return data[(head + size) & (data.length - 1)];
+        }
+
+        private void grow() {
+            if (size < data.length) return;
+            int[] bigger = new int[data.length * 2];
+            for (int i = 0; i < size; i++) bigger[i] = data[(head + i) & (data.length - 1)];
+            data = bigger;
+            head = 0;
+        }
+    }
+
+    // Binary heap berisi long (priority << 32 | id), tanpa objek per entry
+    static final class LongMinHeap {
+        private long[] heap = new long[64];
+        private int size;
+
+        static int id(long entry) { return (int) entry; }
+        static int priority(long entry) { return (int) (entry >>> 32); }
+
+        boolean isEmpty() { return size == 0; }
+
+        void clear() { size = 0; }
+
+        void push(int id, int priority) {
+            if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+            long e = ((long) priority << 32) | (id & 0xFFFFFFFFL);
+            int i = size++;
+            while (i > 0) {
+                int p = (i - 1) >>> 1;
+                if (heap[p] <= e) break;
+                heap[i] = heap[p];
+                i = p;
+            }
+            heap[i] = e;
+        }
+
+        long pop() {
+            long top = heap[0];
+            long last = heap[--size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (last <= heap[child]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package Maze;
+
+import javax.swing.Timer;
+import java.util.Arrays;
+
+
+// PlaybackEngine (Animasi Ekspansi Berbasis Waktu)
+// Event ekspansi (id << 1 | fromEnd) diputar menurut waktu yang benar-benar
+// berlalu, bukan jumlah tick Timer: posisi += dt * cells/s. Timer hanya
+// memicu frame (~60 fps); jika Timer terlambat, frame berikutnya menampilkan
+// lebih banyak sel.
+//
+// Event hanya diambil dari SearchEventBuffer sebanyak yang akan diputar
+// (posisi target + LOOKAHEAD), jadi solver tetap tertahan backpressure buffer
+// dan memori tidak tumbuh sebesar pencarian. Riwayat = ring HISTORY event
+// terakhir: seek mundur membatalkan event (Sink.hide) dalam jendela itu.
+//
+// Adaptive batching: laju efektif = max(cells/s, event diketahui / maxSeconds);
+// jika maxSeconds terlewati dan solver masih berjalan, sisa event diputar
+// secepat buffer terisi, jadi pencarian jutaan ekspansi tetap cepat selesai.
+class PlaybackEngine implements SearchListener {
+    static final double DEFAULT_RATE = 1000; // Setara animasi lama (3 sel / 3 ms)
+    private static final int FRAME_MS = 16;
+    private static final long DRAIN_BUDGET_NANOS = 4_000_000L; // Maks waktu ambil event per frame
+    private static final int HISTORY = 1 << 20;   // Event terakhir yang bisa di-seek mundur (4 MB)
+    private static final int LOOKAHEAD = 1 << 14; // Event yang boleh diambil di depan posisi
+
+    // Penerima event yang diputar (dipanggil di EDT)
+    interface Sink {
+        void show(int[] events, int from, int to); // Tampilkan event [from, to)
+        void hide(int[] events, int from, int to); // Seek mundur: batalkan event [from, to)
+    }
+
+    private final Sink sink;
+    private final Timer timer;
+    private Runnable onChange = () -> { };
+
+    private int[] history = new int[1024]; // Ring: event ke-i di history[i & (length - 1)], tumbuh s.d. HISTORY
+    private int total, position;           // Event yang sudah diambil / sudah ditampilkan
+    private boolean complete;              // Semua event sudah diambil (solver selesai)
+    private SearchEventBuffer source;      // Stream dari solver yang masih berjalan
+    private Runnable onFinished;
+
+    private double rate = DEFAULT_RATE; // Sel per detik yang diminta
+    private double maxSeconds;
+    private double cursor;              // Posisi pecahan (waktu * laju)
+    private long lastTick, started;
+    private boolean active, paused, skip;
+
+    PlaybackEngine(Sink sink) {
+        this.sink = sink;
+        this.timer = new Timer(FRAME_MS, e -> tick());
+    }
+
+    // Dipanggil tiap frame / perubahan state (untuk slider posisi, dll)
+    void setOnChange(Runnable onChange) {
+        this.onChange = onChange;
+    }
+
+    // ---------------------------------------------
+    // Mulai
+    // ---------------------------------------------
+    // Putar stream solver; onFinished dipanggil saat posisi mencapai akhir
+    void play(SearchEventBuffer source, double maxSeconds, Runnable onFinished) {
+        cancel();
+        this.source = source;
+        this.maxSeconds = maxSeconds;
+        this.onFinished = onFinished;
+        total = position = 0;
+        cursor = 0;
+        complete = false;
+        skip = false;
+        paused = false;
+        active = true;
+        lastTick = started = System.nanoTime();
+        timer.start();
+        onChange.run();
+    }
+
+    // Dipanggil oleh source.drain(...): simpan event ke ring riwayat
+    @Override
+    public void expanded(int id, boolean fromEnd) {
+        if (total == history.length && total < HISTORY) history = Arrays.copyOf(history, total * 2);
+        history[total & (history.length - 1)] = (id << 1) | (fromEnd ? 1 : 0);
+        total++;
+    }
+
+    // Hentikan tanpa memanggil onFinished (Reset / New Maze)
+    void cancel() {
+        timer.stop();
+        if (source != null) source.cancel(); // Lepaskan solver yang menunggu buffer
+        source = null;
+        active = false;
+        onChange.run();
+    }
+
+    // ---------------------------------------------
+    // Kontrol
+    // ---------------------------------------------
+    void setRate(double cellsPerSecond) {
+        rate = Math.max(1, cellsPerSecond);
+    }
+
+    double getRate() {
+        return rate;
+    }
+
+    void setPaused(boolean paused) {
+        this.paused = paused;
+        onChange.run();
+    }
+
+    boolean isPaused() {
+        return paused;
+    }
+
+    // Maju n event lalu pause
+    void step(int n) {
+        if (!active) return;
+        paused = true;
+        seek(position + n);
+    }
+
+    // Lompat ke posisi event yang sudah diambil (mundur maks sampai getSeekStart())
+    void seek(int target) {
+        if (!active) return;
+        target = Math.max(getSeekStart(), Math.min(total, target));
+        cursor = target;
+        advance(target);
+        onChange.run();
+    }
+
+    // Tampilkan semua sisa event segera (menunggu solver jika belum selesai)
+    void skipToEnd() {
+        if (!active) return;
+        skip = true;
+        tick();
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    // Posisi terawal yang masih ada di ring riwayat
+    int getSeekStart() {
+        return Math.max(0, total - history.length);
+    }
+
+    // ---------------------------------------------
+    // Frame
+    // ---------------------------------------------
+    private void tick() {
+        long now = System.nanoTime();
+        double dt = (now - lastTick) / 1e9;
+        lastTick = now;
+        double target = skip ? Double.MAX_VALUE : paused ? cursor : cursor + dt * effectiveRate(now);
+
+        // Ambil event seperlunya, per potongan <= LOOKAHEAD yang langsung ditampilkan,
+        // agar ring tidak pernah menimpa event yang belum diputar
+        long deadline = now + DRAIN_BUDGET_NANOS;
+        while (source != null) {
+            int want = (int) Math.min(LOOKAHEAD, Math.max(0, Math.min(Integer.MAX_VALUE, target + LOOKAHEAD) - total));
+            int got = want > 0 ? source.drain(want, this) : 0;
+            if (source.isDone()) {
+                source = null;
+                complete = true;
+            }
+            advance((int) Math.min(target, total));
+            if (got == 0 || System.nanoTime() >= deadline) break;
+        }
+
+        // Tidak menumpuk "hutang" saat menunggu solver: cursor tidak melewati total
+        cursor = Math.min(total, target);
+        advance((int) cursor);
+        onChange.run();
+
+        if (complete && position == total) {
+            timer.stop();
+            active = false;
+            paused = false;
+            onChange.run();
+            if (onFinished != null) onFinished.run();
+        }
+    }
+
+    private double effectiveRate(long now) {
+        if (source != null && now - started > maxSeconds * 1e9) return Double.POSITIVE_INFINITY;
+        long known = total + (source != null ? source.available() : 0);
+        return Math.max(rate, known / maxSeconds);
+    }
+
+    private void advance(int target) {
+        if (target < position) emit(false, target, position);
+        else if (target > position) emit(true, position, target);
+        position = target;
+    }
+
+    // Kirim event [from, to) ke sink; range ring bisa terpotong jadi dua bagian
+    private void emit(boolean show, int from, int to) {
+        int mask = history.length - 1;
+        while (from < to) {
+            int start = from & mask;
+            int n = Math.min(to - from, history.length - start);
+            if (show) sink.show(history, start, start + n);
+            else sink.hide(history, start, start + n);
+            from += n;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package Maze;
+
+import java.util.Random;
+
+
+// PrimMazeGenerator (Prim's Acak, Versi Frontier Sel)
+// Frontier = sel belum dikunjungi yang bertetangga dengan maze, disimpan di
+// int[] dan diambil acak dengan swap-remove O(1) (bukan ArrayList.remove(idx)
+// yang O(n)). Tiap sel masuk frontier sekali (flag state), lalu disambung ke
+// salah satu tetangga yang sudah di maze. Tanpa List tetangga per langkah:
+// tetangga dicek langsung lewat indeks. Semua sel pasti terhubung.
+class PrimMazeGenerator implements MazeGenerator {
+    private static final byte UNSEEN = 0, FRONTIER = 1, IN = 2;
+
+    @Override
+    public String getName() {
+        return "Prim's";
+    }
+
+    @Override
+    public void carve(byte[] cells, int rows, int cols, Random rand) {
+        int m = (cols - 1) / 2, n = (rows - 1) / 2;
+        byte[] state = new byte[m * n];
+        int[] frontier = new int[m * n];
+        int[] in = new int[4]; // Tetangga yang sudah di maze (dipakai ulang)
+        int size = 0;
+
+        state[0] = IN;
+        cells[MazeGenerator.cellId(0, 0, cols)] = 1;
+        size = expand(0, m, n, state, frontier, size);
+
+        while (size > 0) {
+            int idx = rand.nextInt(size);
+            int k = frontier[idx];
+            frontier[idx] = frontier[--size]; // Swap-remove
+
+            int i = k / m, j = k % m, count = 0;
+            if (i > 0 && state[k - m] == IN) in[count++] = k - m;
+            if (i < n - 1 && state[k + m] == IN) in[count++] = k + m;
+            if (j > 0 && state[k - 1] == IN) in[count++] = k - 1;
+            if (j < m - 1 && state[k + 1] == IN) in[count++] = k + 1;
+            int nb = in[rand.nextInt(count)];
+
+            // Buka sel dan tembok di antaranya (rata-rata dua id fisik)
+            int id = MazeGenerator.cellId(i, j, cols);
+            int nbId = MazeGenerator.cellId(nb / m, nb % m, cols);
+            cells[id] = 1;
+            cells[(id + nbId) / 2] = 1;
+            state[k] = IN;
+            size = expand(k, m, n, state, frontier, size);
+        }
+    }
+
+    // Tetangga k yang belum terlihat masuk frontier
+    private static int expand(int k, int m, int n, byte[] state, int[] frontier, int size) {
+        int i = k / m, j = k % m;
+        if (i > 0 && state[k - m] == UNSEEN) { state[k - m] = FRONTIER; frontier[size++] = k - m; }
+        if (i < n - 1 && state[k + m] == UNSEEN) { state[k + m] = FRONTIER; frontier[size++] = k + m; }
+        if (j > 0 && state[k - 1] == UNSEEN) { state[k - 1] = FRONTIER; frontier[size++] = k - 1; }
+        if (j < m - 1 && state[k + 1] == UNSEEN) { state[k + 1] = FRONTIER; frontier[size++] = k + 1; }
+        return size;
+    }
+}
@@ -0,0 +1,67 @@
+package Maze;
+
+import java.util.Random;
+
+
+// QueueBenchmark (Perbandingan Antrian Prioritas Dijkstra/A*)
+// Menjalankan Dijkstra & A* dengan tiap MinQueue.Type pada maze acak yang
+// makin besar, lalu mencetak expansions per second.
+// Jalankan: java Maze.QueueBenchmark
+class QueueBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = {51, 101, 201, 401, 801};
+        MinQueue.Type[] types = MinQueue.Type.values();
+
+        System.out.printf("%-9s %-9s %-8s %10s %10s %14s%n",
+            "Size", "Algo", "Queue", "Nodes", "Time(ms)", "Expansions/s");
+
+        for (int size : sizes) {
+            Cell[][] grid = randomGrid(size, size, 42);
+            Cell start = grid[1][1];
+            Cell end = grid[size - 2][size - 2];
+
+            for (String algo : new String[]{"Dijkstra", "A*"}) {
+                for (MinQueue.Type type : types) {
+                    // Warmup singkat agar JIT tidak mendominasi
+                    for (int i = 0; i < 3; i++) run(grid, start, end, algo, type);
+
+                    long t0 = System.nanoTime();
+                    PathAlgorithms.Result res = run(grid, start, end, algo, type);
+                    long t1 = System.nanoTime();
+
+                    double ms = (t1 - t0) / 1000000.0;
+                    int nodes = res.expanded;
+                    System.out.printf("%-9s %-9s %-8s %10d %10.2f %14.0f%n",
+                        size + "x" + size, algo, type, nodes, ms, nodes / (ms / 1000.0));
+                }
+            }
+        }
+    }
+
+    private static PathAlgorithms.Result run(Cell[][] grid, Cell start, Cell end,
+                                             String algo, MinQueue.Type type) {
+        if (algo.equals("A*")) return PathAlgorithms.solveAStar(grid, start, end, type);
+        return PathAlgorithms.solveDijkstra(grid, start, end, type);
+    }
+
+    // Maze acak sederhana: 25% tembok, sisanya Grass/Mud/Water (65/20/15)
+    static Cell[][] randomGrid(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        Cell[][] grid = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                boolean border = r == 0 || c == 0 || r == rows - 1 || c == cols - 1;
+                int type = 0;
+                if (!border && rand.nextInt(100) >= 25) {
+                    int chance = rand.nextInt(100);
+                    type = chance < 65 ? 1 : chance < 85 ? 2 : 3;
+                }
+                grid[r][c] = new Cell(r, c, type);
+            }
+        }
+        grid[1][1].type = 1;
+        grid[rows - 2][cols - 2].type = 1;
+        return grid;
+    }
+}
@@ -0,0 +1,59 @@
+package Maze;
+
+import java.io.*;
+
+
+// RowSink (Tujuan Maze yang Di-stream Baris per Baris)
+// Generator streaming (EllerMazeGenerator) hanya memegang satu baris di
+// memori, lalu menyerahkannya ke sink: file (MazeFile.Writer, format yang
+// dibaca MazeFile.load), CompactGrid, atau Cell[][] yang langsung bisa
+// dipakai PathAlgorithms / MazePanel.
+interface RowSink {
+    void begin(int rows, int cols) throws IOException;
+
+    // Array 'row' dipakai ulang oleh generator; salin jika perlu disimpan
+    void acceptRow(int r, byte[] row) throws IOException;
+
+    void end() throws IOException;
+
+    // Sink ke CompactGrid (in-memory, 1 byte/sel)
+    class ToCompactGrid implements RowSink {
+        private CompactGrid grid;
+
+        public CompactGrid getGrid() { return grid; }
+
+        @Override
+        public void begin(int rows, int cols) {
+            grid = new CompactGrid(rows, cols);
+        }
+
+        @Override
+        public void acceptRow(int r, byte[] row) {
+            int base = grid.index(r, 0);
+            for (int c = 0; c < row.length; c++) grid.setType(base + c, row[c]);
+        }
+
+        @Override
+        public void end() { }
+    }
+
+    // Sink ke Cell[][] (untuk PathAlgorithms versi Cell & tampilan MazePanel)
+    class ToCells implements RowSink {
+        private Cell[][] grid;
+
+        public Cell[][] getGrid() { return grid; }
+
+        @Override
+        public void begin(int rows, int cols) {
+            grid = new Cell[rows][cols];
+        }
+
+        @Override
+        public void acceptRow(int r, byte[] row) {
+            for (int c = 0; c < row.length; c++) grid[r][c] = new Cell(r, c, row[c]);
+        }
+
+        @Override
+        public void end() { }
+    }
+}
@@ -0,0 +1,121 @@
+package Maze;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+
+// SearchContext (State Per-Pencarian untuk Solver Cell[][])
+// gCost & parent tidak lagi ditulis ke objek Cell, tapi ke array milik
+// context (index r*cols+c). Setiap entry diberi cap "epoch": nilai hanya
+// berlaku jika stamp[id] == epoch, jadi reset antar pencarian cukup epoch++
+// (O(1)), bukan menyapu seluruh grid. Satu context = satu pencarian aktif;
+// beberapa context boleh dipakai bersamaan pada maze yang sama karena
+// solver hanya membaca Cell.type.
+//
+// Pakai lewat pool:
+//   try (SearchContext ctx = SearchContext.acquire(rows * cols)) {
+//       PathAlgorithms.solveAStar(grid, start, end, ctx);
+//   }
+class SearchContext implements AutoCloseable {
+    private static final int MAX_POOLED = 8;
+    private static final long MAX_POOLED_CELLS = 1L << 23; // Total sel di pool (~8M, dua context maze 2001x2001)
+    private static final ConcurrentLinkedQueue<SearchContext> POOL = new ConcurrentLinkedQueue<>();
+
+    final int size;
+    private final int[] stamp;
+    private final double[] gCost;
+    private final PackedPath.Moves parent; // Arah langkah dari parent, 2 bit/sel
+    private int epoch;
+    SearchListener listener = SearchListener.NONE; // Tujuan event ekspansi
+
+    // Struktur bantu yang ikut dipakai ulang (dikosongkan di begin())
+    private final EnumMap<MinQueue.Type, MinQueue> queues = new EnumMap<>(MinQueue.Type.class);
+    final PathAlgorithms.IntQueue frontier = new PathAlgorithms.IntQueue();
+
+    public SearchContext(int size) {
+        this.size = size;
+        stamp = new int[size];
+        gCost = new double[size];
+        parent = new PackedPath.Moves(size);
+    }
+
+    // Ambil context kosong dari pool (atau buat baru jika tidak ada yang cocok).
+    // Context berukuran lain dibuang: ukuran grid berubah (generate / load), jadi
+    // context lama tidak akan terpakai lagi dan hanya menahan slot & memori.
+    public static SearchContext acquire(int size) {
+        SearchContext found = null;
+        for (SearchContext ctx : POOL) {
+            if (ctx.size != size) POOL.remove(ctx);
+            else if (found == null && POOL.remove(ctx)) found = ctx;
+        }
+        return found != null ? found : new SearchContext(size);
+    }
+
+    // Kosongkan pool (dipanggil saat grid diganti)
+    static void clearPool() {
+        POOL.clear();
+    }
+
+    public SearchContext withListener(SearchListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    // Kembalikan ke pool (listener dilepas agar tidak bocor ke pemakai berikutnya)
+    @Override
+    public void close() {
+        listener = SearchListener.NONE;
+        long pooledCells = size;
+        for (SearchContext ctx : POOL) pooledCells += ctx.size;
+        if (POOL.size() < MAX_POOLED && pooledCells <= MAX_POOLED_CELLS) POOL.offer(this);
+    }
+
+    // Mulai pencarian baru: semua sel kembali "belum ditemukan" dalam O(1)
+    void begin() {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0); // Sangat jarang: epoch habis
+            epoch = 1;
+        }
+        for (MinQueue q : queues.values()) q.clear();
+        frontier.clear();
+    }
+
+    // Sudah ditemukan (punya gCost/parent) pada pencarian ini?
+    boolean seen(int id) {
+        return stamp[id] == epoch;
+    }
+
+    double gCost(int id) {
+        return stamp[id] == epoch ? gCost[id] : Double.MAX_VALUE;
+    }
+
+    // Arah langkah parent -> id (PackedPath.UP/DOWN/LEFT/RIGHT); hanya valid jika seen(id)
+    int parentMove(int id) {
+        return parent.get(id);
+    }
+
+    // move = arah dari parent ke id, atau -1 untuk start (tanpa parent)
+    void set(int id, double g, int move) {
+        stamp[id] = epoch;
+        gCost[id] = g;
+        if (move >= 0) parent.set(id, move);
+    }
+
+    // Path start -> end mengikuti kode parent
+    PackedPath trace(int start, int end, int cols) {
+        return PackedPath.trace(parent, start, end, cols);
+    }
+
+    // Jumlah sel di frontier (antrian + stack) saat ini, untuk laporan progress
+    int frontierSize() {
+        int n = frontier.size();
+        for (MinQueue q : queues.values()) n += q.size();
+        return n;
+    }
+
+    // Antrian prioritas per tipe, dibuat sekali per context
+    MinQueue queue(MinQueue.Type type) {
+        return queues.computeIfAbsent(type, t -> PathAlgorithms.newQueue(t, size));
+    }
+}
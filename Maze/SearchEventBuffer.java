@@ -0,0 +1,74 @@
+package Maze;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+
+// SearchEventBuffer (Ring Buffer Lock-Free, 1 Producer / 1 Consumer)
+// Solver (thread background) menulis event ekspansi, MazePanel (EDT) membaca
+// beberapa event per frame. Kapasitas tetap: jika penuh, solver menunggu
+// sampai UI mengambil event (backpressure), jadi memori tidak tumbuh
+// sebesar seluruh pencarian. Event = id << 1 | fromEnd (id < 2^30).
+class SearchEventBuffer implements SearchListener {
+    private final int[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Posisi baca (consumer)
+    private final AtomicLong tail = new AtomicLong(); // Posisi tulis (producer)
+    private volatile boolean finished;  // Producer selesai, tidak ada event baru
+    private volatile boolean cancelled; // Consumer berhenti, producer buang event
+
+    // capacity dibulatkan ke pangkat dua
+    public SearchEventBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        events = new int[size];
+        mask = size - 1;
+    }
+
+    // Producer: tunggu jika penuh, kecuali consumer sudah cancel
+    @Override
+    public void expanded(int id, boolean fromEnd) {
+        long t = tail.get();
+        while (t - head.get() == events.length) {
+            if (cancelled) return;
+            LockSupport.parkNanos(100_000);
+        }
+        events[(int) t & mask] = (id << 1) | (fromEnd ? 1 : 0);
+        tail.lazySet(t + 1); // Publish setelah slot terisi
+    }
+
+    // Producer: tandai selesai (panggil sekali, setelah event terakhir)
+    public void finish() {
+        finished = true;
+    }
+
+    // Consumer: teruskan maksimal 'max' event ke sink, kembalikan jumlahnya
+    public int drain(int max, SearchListener sink) {
+        long h = head.get();
+        int n = (int) Math.min(max, tail.get() - h);
+        for (int i = 0; i < n; i++) {
+            int e = events[(int) (h + i) & mask];
+            sink.expanded(e >>> 1, (e & 1) != 0);
+        }
+        head.lazySet(h + n); // Bebaskan slot untuk producer
+        return n;
+    }
+
+    // Consumer: jumlah event yang menunggu diambil
+    public int available() {
+        return (int) (tail.get() - head.get());
+    }
+
+    // Consumer: semua event sudah diambil dan producer sudah selesai
+    public boolean isDone() {
+        return finished && tail.get() == head.get();
+    }
+
+    // Consumer: hentikan stream (Reset), producer tidak lagi menunggu
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
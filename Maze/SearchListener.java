@@ -0,0 +1,14 @@
+package Maze;
+
+
+// SearchListener (Event Ekspansi dari Solver)
+// Dipanggil solver setiap kali sebuah sel di-expand, langsung saat pencarian
+// berjalan (bukan dikumpulkan ke list dulu). id = r * cols + c.
+// fromEnd = true jika sel di-expand oleh front mundur (bidirectional).
+// NONE = capture mati, untuk run headless / benchmark.
+@FunctionalInterface
+interface SearchListener {
+    SearchListener NONE = (id, fromEnd) -> {};
+
+    void expanded(int id, boolean fromEnd);
+}
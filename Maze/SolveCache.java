@@ -0,0 +1,121 @@
+package Maze;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+// SolveCache (LRU Cache Hasil Solve)
+// Key = fingerprint maze + endpoint + nama algoritma, jadi query yang sama
+// pada maze yang sama langsung dijawab tanpa mencari ulang. Kapasitas tetap;
+// entry yang paling lama tidak dipakai dibuang (LinkedHashMap access-order).
+//
+// Fingerprint = XOR hash per sel (ala Zobrist): mengubah satu sel cukup
+// update(fp, id, tipeLama, tipeBaru) dalam O(1), tanpa hash ulang seluruh grid.
+class SolveCache<V> {
+    private final int capacity;
+    private final Map<Key, V> entries;
+    private long hits, misses, evictions;
+
+    SolveCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                if (size() <= SolveCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    // null jika belum ada (miss)
+    synchronized V get(long fingerprint, int start, int end, String algo) {
+        V value = entries.get(new Key(fingerprint, start, end, algo));
+        if (value == null) misses++;
+        else hits++;
+        return value;
+    }
+
+    synchronized void put(long fingerprint, int start, int end, String algo, V value) {
+        entries.put(new Key(fingerprint, start, end, algo), value);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d/%d entries | hits %d | misses %d | evictions %d",
+            entries.size(), capacity, hits, misses, evictions);
+    }
+
+    // ---------------------------------------------
+    // Fingerprint maze
+    // ---------------------------------------------
+    static long fingerprint(Cell[][] grid) {
+        int rows = grid.length, cols = grid[0].length;
+        long fp = mix(((long) rows << 32) | cols); // Ukuran ikut, id sel bergantung pada cols
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                fp ^= cellHash(r * cols + c, grid[r][c].type);
+            }
+        }
+        return fp;
+    }
+
+    // Fingerprint setelah sel id berubah tipe
+    static long update(long fingerprint, int id, int oldType, int newType) {
+        return fingerprint ^ cellHash(id, oldType) ^ cellHash(id, newType);
+    }
+
+    private static long cellHash(int id, int type) {
+        return mix(((long) id << 2) | type);
+    }
+
+    // Finalizer SplitMix64
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Key {
+        final long fingerprint;
+        final int start, end;
+        final String algo;
+
+        Key(long fingerprint, int start, int end, String algo) {
+            this.fingerprint = fingerprint;
+            this.start = start;
+            this.end = end;
+            this.algo = algo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return fingerprint == k.fingerprint && start == k.start && end == k.end && algo.equals(k.algo);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, start, end, algo);
+        }
+    }
+}
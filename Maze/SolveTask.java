@@ -0,0 +1,116 @@
+package Maze;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+
+// SolveTask (Pencarian di Thread Background dengan Cancel & Progress)
+// Pekerjaan solve dijalankan di executor (thread daemon), bukan di EDT,
+// jadi jendela tetap responsif walau pencarian makan waktu beberapa detik.
+//
+// Cancel bersifat kooperatif: listener dari track() memeriksa flag setiap
+// ekspansi dan melempar CancellationException, sehingga solver berhenti
+// di ekspansi berikutnya (context tetap kembali ke pool lewat try-with-resources).
+// Progress (jumlah ekspansi & ukuran frontier, atau teks bebas lewat
+// report()) dikirim ke EDT maksimal satu update tertunda sekaligus, jadi
+// solver tidak membanjiri antrian event.
+class SolveTask {
+    private static final int PROGRESS_INTERVAL = 1 << 12; // Ekspansi antar laporan progress
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "solver-" + THREAD_ID.incrementAndGet());
+        t.setDaemon(true); // Tidak menahan JVM saat jendela ditutup
+        return t;
+    });
+
+    // Penerima progress (dipanggil di EDT); status null = selesai
+    @FunctionalInterface
+    interface Progress {
+        void update(String status);
+    }
+
+    private final Progress progress;
+    private final AtomicBoolean reportPending = new AtomicBoolean();
+    private volatile boolean cancelled;
+    private volatile String status;
+
+    private SolveTask(Progress progress) {
+        this.progress = progress;
+    }
+
+    // Jalankan work di background; CancellationException dianggap selesai normal
+    static SolveTask start(Progress progress, Consumer<SolveTask> work) {
+        SolveTask task = new SolveTask(progress);
+        EXECUTOR.execute(() -> {
+            try {
+                work.accept(task);
+            } catch (CancellationException e) {
+                // Dibatalkan (Reset / New Maze)
+            }
+        });
+        return task;
+    }
+
+    // Dipanggil dari EDT; solver berhenti di ekspansi berikutnya
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    // Untuk titik cek di luar solver (mis. antar algoritma)
+    void checkCancelled() {
+        if (cancelled) throw new CancellationException();
+    }
+
+    // Jalankan di EDT, kecuali task sudah dibatalkan saat giliran tiba
+    void onEdt(Runnable action) {
+        SwingUtilities.invokeLater(() -> {
+            if (!cancelled) action.run();
+        });
+    }
+
+    // Listener yang hanya cek cancel (satu baca volatile per ekspansi), untuk
+    // solve terukur di CompareBenchmark: tanpa progress & tanpa downstream
+    SearchListener cancelCheck() {
+        return (id, fromEnd) -> {
+            if (cancelled) throw new CancellationException();
+        };
+    }
+
+    // Listener untuk satu pencarian: cek cancel, hitung progress, lalu teruskan
+    // ke downstream. contexts = context solver yang frontier-nya dilaporkan.
+    SearchListener track(String label, SearchListener downstream, SearchContext... contexts) {
+        return new SearchListener() {
+            private long count;
+
+            @Override
+            public void expanded(int id, boolean fromEnd) {
+                if (cancelled) throw new CancellationException();
+                downstream.expanded(id, fromEnd);
+                if (++count % PROGRESS_INTERVAL == 0) {
+                    int frontier = 0;
+                    for (SearchContext ctx : contexts) frontier += ctx.frontierSize(); // Di thread solver
+                    report(String.format("%s: %,d expanded | frontier %,d", label, count, frontier));
+                }
+            }
+        };
+    }
+
+    // Kirim status ke EDT; update yang datang sebelum EDT sempat membaca digabung
+    void report(String text) {
+        status = text;
+        if (progress == null || !reportPending.compareAndSet(false, true)) return;
+        SwingUtilities.invokeLater(() -> {
+            reportPending.set(false);
+            if (!cancelled) progress.update(status);
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package Maze;
+
+import java.util.Random;
+
+
+// WilsonMazeGenerator (Loop-Erased Random Walk)
+// Menghasilkan spanning tree seragam (semua maze sempurna sama peluangnya,
+// tanpa bias "banyak cabang pendek" seperti Prim's). Dari tiap sel di luar
+// tree: jalan acak sampai menyentuh tree, menyimpan arah keluar terakhir per
+// sel (menimpa arah lama = loop otomatis terhapus), lalu jalur itu diukir.
+// Awal lambat (tree masih kecil, walk panjang), makin cepat setelahnya.
+class WilsonMazeGenerator implements MazeGenerator {
+    @Override
+    public String getName() {
+        return "Wilson";
+    }
+
+    @Override
+    public void carve(byte[] cells, int rows, int cols, Random rand) {
+        int m = (cols - 1) / 2, n = (rows - 1) / 2;
+        int total = m * n;
+        boolean[] inTree = new boolean[total];
+        int[] next = new int[total]; // Sel berikutnya pada walk terakhir yang lewat sel ini
+        int[] options = new int[4];
+
+        int root = rand.nextInt(total);
+        inTree[root] = true;
+        cells[MazeGenerator.cellId(root / m, root % m, cols)] = 1;
+
+        for (int start = 0; start < total; start++) {
+            if (inTree[start]) continue;
+
+            // 1. Random walk sampai kena tree
+            int k = start;
+            while (!inTree[k]) {
+                int i = k / m, j = k % m, count = 0;
+                if (i > 0) options[count++] = k - m;
+                if (i < n - 1) options[count++] = k + m;
+                if (j > 0) options[count++] = k - 1;
+                if (j < m - 1) options[count++] = k + 1;
+                next[k] = options[rand.nextInt(count)];
+                k = next[k];
+            }
+
+            // 2. Ukir jalur bebas loop (ikuti arah terakhir dari start)
+            k = start;
+            int id = MazeGenerator.cellId(k / m, k % m, cols);
+            while (!inTree[k]) {
+                inTree[k] = true;
+                cells[id] = 1;
+                k = next[k];
+                int nextId = MazeGenerator.cellId(k / m, k % m, cols);
+                cells[(id + nextId) / 2] = 1;
+                id = nextId;
+            }
+        }
+    }
+}